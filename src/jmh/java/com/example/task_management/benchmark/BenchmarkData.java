@@ -0,0 +1,105 @@
+package com.example.task_management.benchmark;
+
+import com.example.task_management.TaskManagementApplication;
+import com.example.task_management.model.BulkItemResult;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.model.User;
+import com.example.task_management.repository.UserRepository;
+import com.example.task_management.service.TaskService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class BenchmarkData {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    static ConfigurableApplicationContext startContext(String databaseName) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "app.search.index-dir=",
+                        "app.feed.log-file=",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    static long[] seedUsers(ConfigurableApplicationContext context, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        long[] ids = new long[count];
+        int seeded = 0;
+
+        while (seeded < count) {
+            List<User> chunk = new ArrayList<>();
+            for (int i = seeded; i < Math.min(count, seeded + CHUNK_SIZE); i++) {
+                User user = new User();
+                user.setFirstName("First" + i);
+                user.setLastName("Last" + (i % 1000));
+                user.setEmail("user" + i + "@example.com");
+                chunk.add(user);
+            }
+            for (User user : userRepository.saveAll(chunk)) {
+                ids[seeded++] = user.getId();
+            }
+        }
+
+        return ids;
+    }
+
+    static long[] seedTasks(ConfigurableApplicationContext context, int count) {
+        TaskService taskService = context.getBean(TaskService.class);
+        long[] ids = new long[count];
+        int seeded = 0;
+
+        while (seeded < count) {
+            int end = Math.min(count, seeded + CHUNK_SIZE);
+            for (BulkItemResult result : taskService.addTasks(generateTasks(seeded, end))) {
+                ids[seeded++] = result.getId();
+            }
+        }
+
+        return ids;
+    }
+
+    static long pick(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static Iterator<Task> generateTasks(int from, int to) {
+        return new Iterator<>() {
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+                return next < to;
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int i = next++;
+                Task task = new Task();
+                task.setTitle("Task " + i);
+                task.setDescription("Benchmark task number " + i);
+                task.setStatus(STATUSES[i % STATUSES.length]);
+                task.setDueDate(LocalDate.now().plusDays(i % 365));
+                return task;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.task_management.benchmark;
+
+import com.example.task_management.controller.TaskController;
+import com.example.task_management.controller.UserController;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ControllerFilterBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskController taskController;
+    private UserController userController;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext("controller-filter-" + rows);
+        taskController = context.getBean(TaskController.class);
+        userController = context.getBean(UserController.class);
+        BenchmarkData.seedUsers(context, Math.max(10, rows / 100));
+        BenchmarkData.seedTasks(context, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> getAllTasksByStatusAndTitle() {
+        return taskController.getAllTasks(TaskStatus.IN_PROGRESS, "Task 9", null, 0, 20);
+    }
+
+    @Benchmark
+    public List<User> getAllUsersByLastName() {
+        return userController.getAllUsers(null, "Last42", null);
+    }
+}
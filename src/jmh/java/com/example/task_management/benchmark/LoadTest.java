@@ -0,0 +1,173 @@
+package com.example.task_management.benchmark;
+
+import com.example.task_management.TaskManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the REST API with many concurrent clients, once on platform threads and once on virtual
+ * threads, and reports throughput and latency percentiles for both modes. Both runs use the same
+ * connection pool and connector limits.
+ * <p>
+ * Arguments: {@code [clients] [seconds] [result-file]}.
+ */
+public final class LoadTest {
+
+    private static final int SEEDED_TASKS = 10_000;
+
+    // Both modes get the virtual-threads profile's pool and connector sizes, so only the threading model differs
+    private static final String[] SHARED_PROPERTIES = {
+            "server.tomcat.max-connections=20000",
+            "server.tomcat.accept-count=2000",
+            "spring.datasource.hikari.maximum-pool-size=64",
+            "spring.datasource.hikari.minimum-idle=64",
+            "spring.datasource.hikari.connection-timeout=5000"
+    };
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Integer.parseInt(args[1]) : 30);
+        Path resultFile = Path.of(args.length > 2 ? args[2] : "target/load-test-result.json");
+
+        List<Result> results = List.of(
+                run("platform", false, clients, duration),
+                run("virtual", true, clients, duration));
+
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            System.out.println(result);
+            json.append("  ").append(result.toJson()).append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        Files.writeString(resultFile, json);
+    }
+
+    private static Result run(String mode, boolean virtualThreads, int clients, Duration duration) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "app.search.index-dir=",
+                        "app.feed.log-file=",
+                        "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .properties(SHARED_PROPERTIES);
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            long[] taskIds = BenchmarkData.seedTasks(context, SEEDED_TASKS);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/tasks";
+            return drive(mode, baseUrl, taskIds, clients, duration);
+        }
+    }
+
+    private static Result drive(String mode, String baseUrl, long[] taskIds, int clients, Duration duration)
+            throws Exception {
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService httpThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(httpThreads)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+
+            for (int i = 0; i < clients; i++) {
+                futures.add(clientThreads.submit(() -> client(http, baseUrl, taskIds, deadline, errors)));
+            }
+
+            long[] latencies = new long[0];
+            for (Future<long[]> future : futures) {
+                long[] clientLatencies = future.get();
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + clientLatencies.length);
+                System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            }
+            Arrays.sort(latencies);
+            return new Result(mode, clients, duration, latencies, errors.sum());
+        }
+    }
+
+    private static long[] client(HttpClient http, String baseUrl, long[] taskIds, long deadline, LongAdder errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+
+        while (System.nanoTime() < deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            URI uri = random.nextBoolean()
+                    ? URI.create(baseUrl + "/" + BenchmarkData.pick(taskIds))
+                    : URI.create(baseUrl + "?size=20&page=" + random.nextInt(100));
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.increment();
+                }
+            } catch (IOException e) {
+                errors.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private record Result(String mode, int clients, Duration duration, long[] latencies, long errors) {
+
+        double throughput() {
+            return latencies.length / (double) duration.toSeconds();
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        String toJson() {
+            return String.format(java.util.Locale.ROOT,
+                    "{\"mode\":\"%s\",\"clients\":%d,\"seconds\":%d,\"requests\":%d,\"errors\":%d," +
+                            "\"throughput\":%.1f,\"p50Millis\":%.2f,\"p99Millis\":%.2f}",
+                    mode, clients, duration.toSeconds(), latencies.length, errors,
+                    throughput(), percentileMillis(50), percentileMillis(99));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                    "%-8s clients=%d requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms",
+                    mode, clients, latencies.length, errors, throughput(), percentileMillis(50), percentileMillis(99));
+        }
+    }
+}
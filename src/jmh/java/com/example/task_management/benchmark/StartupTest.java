@@ -0,0 +1,176 @@
+package com.example.task_management.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the extracted application in a fresh JVM several times per mode (plain JIT, AppCDS, and
+ * Spring AOT with AppCDS) and reports the time Spring Boot logs for startup together with the
+ * wall-clock time until the first {@code GET /api/tasks} succeeds.
+ * <p>
+ * Expects the output of {@code mvn -Pcds -DskipTests package}.
+ * Arguments: {@code [startup-dir] [runs] [result-file]}.
+ */
+public final class StartupTest {
+
+    private static final Pattern STARTED = Pattern.compile(
+            "Started \\w+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path startupDir = Path.of(args.length > 0 ? args[0] : "target/startup");
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Path resultFile = Path.of(args.length > 2 ? args[2] : "target/startup-test-result.json");
+
+        Path jar;
+        try (var files = Files.list(startupDir)) {
+            jar = files.filter(file -> file.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No extracted jar in " + startupDir
+                            + ", run mvn -Pcds -DskipTests package first"));
+        }
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("jit", jar, List.of(), runs));
+        Path archive = startupDir.resolve("application.jsa");
+        if (Files.exists(archive)) {
+            results.add(run("cds", jar, List.of("-XX:SharedArchiveFile=" + archive), runs));
+        }
+        Path aotArchive = startupDir.resolve("application-aot.jsa");
+        if (Files.exists(aotArchive)) {
+            results.add(run("aot-cds", jar,
+                    List.of("-XX:SharedArchiveFile=" + aotArchive, "-Dspring.aot.enabled=true"), runs));
+        }
+
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            System.out.println(result);
+            json.append("  ").append(result.toJson()).append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        Files.writeString(resultFile, json);
+    }
+
+    private static Result run(String mode, Path jar, List<String> jvmArgs, int runs) throws Exception {
+        double[] startedSeconds = new double[runs];
+        double[] firstRequestSeconds = new double[runs];
+        try (HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build()) {
+            for (int i = 0; i < runs; i++) {
+                double[] sample = startOnce(http, mode + "-" + i, jar, jvmArgs);
+                startedSeconds[i] = sample[0];
+                firstRequestSeconds[i] = sample[1];
+            }
+        }
+        return new Result(mode, runs, median(startedSeconds), median(firstRequestSeconds));
+    }
+
+    private static double[] startOnce(HttpClient http, String name, Path jar, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:" + name,
+                "--app.search.index-dir=",
+                "--app.feed.log-file="));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try {
+            CompletableFuture<Double> started = new CompletableFuture<>();
+            Thread.ofVirtual().start(() -> readOutput(process, started));
+            URI uri = URI.create("http://localhost:" + port + "/api/tasks?size=20");
+            long deadline = start + TIMEOUT.toNanos();
+            while (true) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException(name + " did not serve a request, exit " +
+                            (process.isAlive() ? "timeout" : String.valueOf(process.exitValue())));
+                }
+                try {
+                    HttpResponse<Void> response = http.send(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(5);
+            }
+            double firstRequest = (System.nanoTime() - start) / 1_000_000_000.0;
+            return new double[] {started.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS), firstRequest};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    // Keeps draining the output after the started line so the child never blocks on a full pipe
+    private static void readOutput(Process process, CompletableFuture<Double> started) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (!started.isDone() && matcher.find()) {
+                    started.complete(Double.parseDouble(matcher.group(2)));
+                }
+            }
+        } catch (IOException e) {
+            // Process exited
+        }
+        started.complete(Double.NaN);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private record Result(String mode, int runs, double startedSeconds, double firstRequestSeconds) {
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"runs\":%d,\"startedSeconds\":%.3f,\"firstRequestSeconds\":%.3f}",
+                    mode, runs, startedSeconds, firstRequestSeconds);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-8s runs=%d started=%.3f s first-request=%.3f s",
+                    mode, runs, startedSeconds, firstRequestSeconds);
+        }
+    }
+}
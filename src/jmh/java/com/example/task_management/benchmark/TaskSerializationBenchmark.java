@@ -0,0 +1,81 @@
+package com.example.task_management.benchmark;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.service.TaskService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private Task task;
+    private List<Task> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext("task-serialization-" + rows);
+        objectMapper = context.getBean(ObjectMapper.class);
+        TaskService taskService = context.getBean(TaskService.class);
+
+        long[] userIds = BenchmarkData.seedUsers(context, Math.max(10, rows / 100));
+        long[] taskIds = BenchmarkData.seedTasks(context, rows);
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Set<Long> assignees = new HashSet<>();
+            for (int j = 0; j < 5; j++) {
+                assignees.add(BenchmarkData.pick(userIds));
+            }
+            taskService.assignUsersToTask(taskIds[i], assignees);
+            page.add(taskService.findTaskById(taskIds[i]));
+        }
+        task = taskService.findTaskById(taskIds[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
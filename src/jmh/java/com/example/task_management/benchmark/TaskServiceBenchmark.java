@@ -0,0 +1,66 @@
+package com.example.task_management.benchmark;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long[] taskIds;
+    private long[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext("task-service-" + rows);
+        taskService = context.getBean(TaskService.class);
+        userIds = BenchmarkData.seedUsers(context, Math.max(10, rows / 100));
+        taskIds = BenchmarkData.seedTasks(context, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task findTaskById() {
+        return taskService.findTaskById(BenchmarkData.pick(taskIds));
+    }
+
+    @Benchmark
+    public Task assignUsersToTask() {
+        Set<Long> users = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(BenchmarkData.pick(userIds));
+        }
+        return taskService.assignUsersToTask(BenchmarkData.pick(taskIds), users);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.task_management.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        meterRegistry.ifAvailable(registry -> primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<HikariConfig> replicaConfigs = binder.bind("app.datasource.replicas", Bindable.listOf(HikariConfig.class))
+                .orElse(List.of());
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig config = replicaConfigs.get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName("replica-" + i);
+            }
+            // A replica that is down at startup is failed over to, not fatal.
+            config.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    // The lazy proxy defers borrowing a connection until the first statement, by which point
+    // the transaction's read-only flag is known and the routing decision can use it.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Set on the factory bean before it initializes, so both the EntityManagerFactory and the
+    // JpaTransactionManager that copies its dialect use it.
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${app.datasource.stickiness:5s}") Duration stickiness) {
+        return new ReadYourWritesFilter(stickiness);
+    }
+
+    @Bean
+    public ReplicaHealthCheck replicaHealthCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthCheck(replicaRoutingDataSource);
+    }
+
+    static class ReplicaHealthCheck {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        ReplicaHealthCheck(ReplicaRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.health-check-interval-ms:5000}")
+        public void check() {
+            routingDataSource.checkHealth();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.task_management.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+// Rows read from a lagging replica must not land in the shared second-level and query caches, where
+// primary reads would pick them up as current. Replica-routed transactions still read the caches but
+// never put into them.
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    // With open-in-view the session outlives the transaction, so the cache mode is put back
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replicaData) {
+            replicaData.session.setCacheMode(replicaData.previousCacheMode);
+            super.cleanupTransaction(replicaData.delegate);
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private static class ReplicaTransactionData {
+
+        private final Object delegate;
+        private final Session session;
+        private final CacheMode previousCacheMode;
+
+        ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+            this.delegate = delegate;
+            this.session = session;
+            this.previousCacheMode = previousCacheMode;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.task_management.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Set<String> unhealthy = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaNames = new ArrayList<>(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    // Sends the rest of the current thread's work to the primary, e.g. right after this client wrote.
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String name = replicaNames.get(Math.floorMod(next.getAndIncrement(), replicaNames.size()));
+            if (!unhealthy.contains(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    public void checkHealth() {
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (!connection.isValid(1)) {
+                    markUnhealthy(name, null);
+                } else if (unhealthy.remove(name)) {
+                    log.info("Replica {} is healthy again", name);
+                }
+            } catch (SQLException e) {
+                markUnhealthy(name, e);
+            }
+        });
+    }
+
+    public void markUnhealthy(String name, SQLException cause) {
+        if (unhealthy.add(name)) {
+            log.warn("Replica {} is unhealthy, routing its reads to the primary", name, cause);
+        }
+    }
+
+    public List<String> getReplicaNames() {
+        return replicaNames;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.task_management.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryMetricsAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowQueryThreshold;
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry,
+                                   @Value("${app.metrics.slow-query-threshold-ms:200}") long slowQueryThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThreshold = Duration.ofMillis(slowQueryThresholdMs);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object recordInvocation(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result = joinPoint.proceed();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        String repository = repositoryName(joinPoint.getThis());
+        String method = joinPoint.getSignature().getName();
+
+        long rows = rowCount(result);
+        if (rows >= 0) {
+            DistributionSummary.builder("repository.rows")
+                    .description("Rows returned per repository invocation that yields a list or page")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+
+        if (elapsed.compareTo(slowQueryThreshold) > 0) {
+            if (rows >= 0) {
+                log.warn("Slow repository call {}.{} took {} ms ({} rows)", repository, method, elapsed.toMillis(), rows);
+            } else {
+                log.warn("Slow repository call {}.{} took {} ms", repository, method, elapsed.toMillis());
+            }
+        }
+
+        return result;
+    }
+
+    private String repositoryName(Object proxy) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : proxy.getClass().getSimpleName();
+    }
+
+    // Only result lists are counted: a Number is a count or an update count, and single entities,
+    // Optionals and streams say nothing about how many rows were read. -1 means not counted.
+    private long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return -1;
+    }
+}
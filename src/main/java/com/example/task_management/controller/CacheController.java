@@ -0,0 +1,24 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.service.CacheStatisticsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Map<String, Long>> getCacheStatistics() {
+        return cacheStatisticsService.getRegionStatistics();
+    }
+}
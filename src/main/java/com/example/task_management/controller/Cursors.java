@@ -0,0 +1,50 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.exception.AppException;
+import com.example.task_management.model.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+final class Cursors {
+
+    static final int MAX_LIMIT = 500;
+
+    private static final String PREFIX = "id:";
+
+    private Cursors() {
+    }
+
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw AppException.invalidRequest("Invalid cursor");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw AppException.invalidRequest("Invalid cursor");
+        }
+    }
+
+    static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw AppException.invalidRequest("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    static <T> CursorPage<T> page(List<T> items, int limit, Function<T, Long> idOf) {
+        String next = items.size() == limit ? encode(idOf.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, next);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.exception.AppException;
+
+final class ETags {
+
+    private static final String PENDING_SEPARATOR = "-p";
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    // A write-behind status change is not in the version yet, so its log sequence is appended: "<version>-p<sequence>"
+    static String of(Long version, Long pendingSequence) {
+        if (pendingSequence == null) {
+            return of(version);
+        }
+        return "\"" + (version == null ? 0 : version) + PENDING_SEPARATOR + pendingSequence + "\"";
+    }
+
+    static Long parseIfMatch(String header) {
+        String value = tagValue(header);
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf(PENDING_SEPARATOR);
+        return parse(separator < 0 ? value : value.substring(0, separator), header);
+    }
+
+    static Long parsePendingSequence(String header) {
+        String value = tagValue(header);
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf(PENDING_SEPARATOR);
+        return separator < 0 ? null : parse(value.substring(separator + PENDING_SEPARATOR.length()), header);
+    }
+
+    private static String tagValue(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        return value.replace("\"", "");
+    }
+
+    private static Long parse(String value, String header) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw AppException.invalidRequest("Invalid If-Match header: " + header);
+        }
+    }
+}
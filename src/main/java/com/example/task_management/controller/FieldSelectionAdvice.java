@@ -0,0 +1,78 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.model.CursorPage;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.User;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RestControllerAdvice(assignableTypes = {TaskController.class, UserController.class})
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        String fields = request instanceof ServletServerHttpRequest servletRequest
+                ? servletRequest.getServletRequest().getParameter(FIELDS_PARAM)
+                : null;
+        if (!StringUtils.hasText(fields)) {
+            return;
+        }
+
+        String filterId = filterIdFor(ResolvableType.forMethodParameter(returnType));
+        if (filterId == null) {
+            return;
+        }
+
+        // The id is always kept: @JsonIdentityInfo needs it to reference repeated objects.
+        Set<String> selected = Stream.concat(Stream.of("id"), Arrays.stream(fields.split(",")))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+    }
+
+    // Field selection applies to the resource an endpoint returns, unwrapped from responses, lists and pages.
+    private static String filterIdFor(ResolvableType type) {
+        while (type.hasGenerics() && isContainer(type.resolve(Object.class))) {
+            type = type.getGeneric(0);
+        }
+        Class<?> resource = type.resolve(Object.class);
+        if (resource == Task.class || resource == TaskDao.class) {
+            return Task.FIELDS_FILTER;
+        }
+        if (resource == User.class) {
+            return User.FIELDS_FILTER;
+        }
+        return null;
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return ResponseEntity.class.isAssignableFrom(type)
+                || Collection.class.isAssignableFrom(type)
+                || CursorPage.class.isAssignableFrom(type);
+    }
+}
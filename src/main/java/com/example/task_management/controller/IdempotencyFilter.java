@@ -0,0 +1,242 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.exception.AppException;
+import com.example.task_management.model.IdempotencyRecord;
+import com.example.task_management.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                             @Value("${app.idempotency.max-body-bytes:1048576}") int maxBodyBytes) {
+        this.idempotencyService = idempotencyService;
+        this.exceptionResolver = exceptionResolver;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return request.getHeader(IDEMPOTENCY_KEY) == null
+                || !WRITE_METHODS.contains(request.getMethod())
+                || !(path.startsWith("/api/tasks") || path.startsWith("/api/users"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            reject(request, response, AppException.invalidRequest(
+                    IDEMPOTENCY_KEY + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+            return;
+        }
+
+        // The body is buffered for hashing, so it is capped: large uploads such as NDJSON bulk
+        // ingestion stream without a key instead of being held in memory whole.
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            reject(request, response, AppException.idempotentBodyTooLarge(maxBodyBytes));
+            return;
+        }
+        CachedBodyRequest cachedRequest = CachedBodyRequest.read(request, maxBodyBytes);
+        if (cachedRequest == null) {
+            reject(request, response, AppException.idempotentBodyTooLarge(maxBodyBytes));
+            return;
+        }
+        // Keys are scoped to the endpoint, so the same key may be reused across different resources.
+        String id = sha256((request.getMethod() + " " + request.getRequestURI() + " " + key)
+                .getBytes(StandardCharsets.UTF_8));
+        // Some writes carry their arguments in the query string, e.g. PUT /api/tasks/{id}/parent?parentId=
+        String requestHash = sha256(cachedRequest.body, request.getQueryString());
+
+        if (replay(id, requestHash, request, response)) {
+            return;
+        }
+        if (!idempotencyService.tryStart(id)) {
+            reject(request, response, AppException.idempotencyKeyInProgress());
+            return;
+        }
+
+        try {
+            // Another request with this key may have finished between the lookup and tryStart.
+            if (replay(id, requestHash, request, response)) {
+                return;
+            }
+
+            ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+            chain.doFilter(cachedRequest, cachedResponse);
+            // Failed requests wrote nothing, so only successes are replayed and errors may be retried.
+            if (HttpStatus.valueOf(cachedResponse.getStatus()).is2xxSuccessful()
+                    && cachedResponse.getContentSize() <= maxBodyBytes) {
+                idempotencyService.save(toRecord(id, requestHash, cachedResponse));
+            }
+            cachedResponse.copyBodyToResponse();
+        } finally {
+            idempotencyService.finish(id);
+        }
+    }
+
+    private boolean replay(String id, String requestHash, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<IdempotencyRecord> existing = idempotencyService.find(id);
+        if (existing.isEmpty()) {
+            return false;
+        }
+
+        IdempotencyRecord record = existing.get();
+        if (!record.getRequestHash().equals(requestHash)) {
+            reject(request, response, AppException.idempotencyKeyReused());
+            return true;
+        }
+
+        response.setStatus(record.getStatus());
+        response.setHeader(REPLAYED, "true");
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        if (record.getEtag() != null) {
+            response.setHeader(HttpHeaders.ETAG, record.getEtag());
+        }
+        if (record.getBody() != null) {
+            response.setContentLength(record.getBody().length);
+            response.getOutputStream().write(record.getBody());
+        }
+        return true;
+    }
+
+    private IdempotencyRecord toRecord(String id, String requestHash, ContentCachingResponseWrapper response) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(id);
+        record.setRequestHash(requestHash);
+        record.setStatus(response.getStatus());
+        record.setContentType(response.getContentType());
+        record.setEtag(response.getHeader(HttpHeaders.ETAG));
+        record.setBody(response.getContentAsByteArray());
+        return record;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AppException ex) {
+        exceptionResolver.resolveException(request, response, null, ex);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256(byte[] body, String queryString) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (queryString != null) {
+                digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+            }
+            // Separates the query from the body so the two cannot be shifted into each other
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        // Null when the body is longer than maxBytes; reading stops right after the limit.
+        private static CachedBodyRequest read(HttpServletRequest request, int maxBytes) throws IOException {
+            byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+            return body.length > maxBytes ? null : new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available, and complete, right away
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
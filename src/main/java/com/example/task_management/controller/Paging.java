@@ -0,0 +1,23 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.exception.AppException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+final class Paging {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private Paging() {
+    }
+
+    static PageRequest pageRequest(int page, int size) {
+        if (page < 0) {
+            throw AppException.invalidRequest("Page index must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw AppException.invalidRequest("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+}
@@ -1,49 +1,156 @@
 package com.example.task_management.controller;
 
+import com.example.task_management.event.TaskChangeFeed;
+import com.example.task_management.exception.AppException;
+import com.example.task_management.model.BulkAssignRequest;
+import com.example.task_management.model.BulkDeleteRequest;
+import com.example.task_management.model.BulkDeleteResult;
+import com.example.task_management.model.BulkItemResult;
+import com.example.task_management.model.BulkStatusRequest;
+import com.example.task_management.model.BulkStatusResult;
+import com.example.task_management.model.CursorPage;
 import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskNode;
+import com.example.task_management.model.TaskStats;
 import com.example.task_management.model.TaskStatus;
 import com.example.task_management.model.UserDto;
+import com.example.task_management.service.TaskGraphService;
 import com.example.task_management.service.TaskService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final TaskService taskService;
+    private final TaskGraphService graphService;
+    private final TaskChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskGraphService graphService, TaskChangeFeed changeFeed,
+                          ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.graphService = graphService;
+        this.changeFeed = changeFeed;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
     public List<Task> getAllTasks(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
 
-        return taskService.findAllTasks().stream()
-                .filter(task -> (status == null || task.getStatus() == status))
-                .filter(task -> (title == null || task.getTitle().contains(title)))
-                .filter(task -> (dueDate == null || task.getDueDate().isEqual(dueDate)))
-                .collect(Collectors.toList());
+        return taskService.findTasks(status, title, dueDate, Paging.pageRequest(page, size))
+                .getContent();
     }
 
+    @GetMapping("/summaries")
+    public List<TaskDao> getTaskSummaries(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return taskService.findTaskSummaries(status, title, dueDate, Paging.pageRequest(page, size))
+                .getContent();
+    }
 
+    @GetMapping(params = "limit")
+    public CursorPage<Task> getTasksAfter(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
 
+        Cursors.checkLimit(limit);
+        List<Task> tasks = taskService.findTasksAfter(status, title, dueDate, Cursors.decode(after), limit);
+        return Cursors.page(tasks, limit, Task::getId);
+    }
+
+    @GetMapping("/search")
+    public List<TaskDao> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw AppException.invalidRequest("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return taskService.searchTasks(q, limit);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats() {
+        return ResponseEntity.ok(taskService.getStats());
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(parseEventId(lastEventId));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            throw AppException.invalidRequest("Invalid Last-Event-ID: " + lastEventId);
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = out -> taskService.exportTasks(task -> writeLine(out, task));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, TaskDao task) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(task));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
         Task task = taskService.findTaskById(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(ETags.of(task.getVersion(), task.getPendingSequence())).body(task);
+    }
+
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<TaskDao> getTaskSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.findTaskSummary(id));
     }
 
     @PostMapping
@@ -51,16 +158,36 @@ public class TaskController {
         return ResponseEntity.ok(taskService.addTask(task));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> addTasks(@RequestBody List<Task> tasks) {
+        return ResponseEntity.ok(taskService.addTasks(tasks.iterator()));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkItemResult>> addTasksFromNdjson(InputStream body) throws IOException {
+        try (MappingIterator<Task> tasks = objectMapper.readerFor(Task.class).readValues(body)) {
+            return ResponseEntity.ok(taskService.addTasks(tasks));
+        } catch (RuntimeJsonMappingException e) {
+            throw AppException.invalidRequest("Malformed task in NDJSON body: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(
-            @PathVariable Long id, @Valid @RequestBody Task task) {
-        return ResponseEntity.ok(taskService.updateTask(id, task));
+            @PathVariable Long id, @Valid @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task updatedTask = taskService.updateTask(id, task,
+                ETags.parseIfMatch(ifMatch), ETags.parsePendingSequence(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedTask.getVersion())).body(updatedTask);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Task> patchTask(
-            @PathVariable Long id, @RequestBody Task task) {
-        return ResponseEntity.ok(taskService.patchTask(id, task));
+            @PathVariable Long id, @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task patchedTask = taskService.patchTask(id, task,
+                ETags.parseIfMatch(ifMatch), ETags.parsePendingSequence(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(patchedTask.getVersion())).body(patchedTask);
     }
 
     @DeleteMapping("/{id}")
@@ -69,6 +196,11 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> deleteTasks(@Valid @RequestBody BulkDeleteRequest request) {
+        return ResponseEntity.ok(taskService.deleteTasks(request));
+    }
+
 
     @PostMapping("/{id}/assign-users")
     public ResponseEntity<Task> assignUsersToTask(
@@ -77,35 +209,81 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @PostMapping("/{id}/assign-users/add")
+    public ResponseEntity<Task> addUsersToTask(
+            @PathVariable Long id, @RequestBody Set<Long> userIds) {
+        return ResponseEntity.ok(taskService.addUsersToTask(id, userIds));
+    }
+
+    @PostMapping("/{id}/assign-users/remove")
+    public ResponseEntity<Task> removeUsersFromTask(
+            @PathVariable Long id, @RequestBody Set<Long> userIds) {
+        return ResponseEntity.ok(taskService.removeUsersFromTask(id, userIds));
+    }
+
+    @PostMapping("/assign-users")
+    public ResponseEntity<Void> assignUsersToTasks(@Valid @RequestBody BulkAssignRequest request) {
+        taskService.assignUsersToTasks(request.getTaskIds(), request.getUserIds());
+        return ResponseEntity.noContent().build();
+    }
+
 
 
     @PatchMapping("/{id}/status")
     public ResponseEntity<Task> updateTaskStatus(
             @PathVariable Long id, @RequestBody TaskStatus status) {
         Task updatedTask = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(ETags.of(updatedTask.getVersion(), updatedTask.getPendingSequence()))
+                .body(updatedTask);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusResult> updateTaskStatuses(@Valid @RequestBody BulkStatusRequest request) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(request));
+    }
+
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<List<TaskNode>> getSubtree(@PathVariable Long id) {
+        return ResponseEntity.ok(graphService.findSubtree(id));
+    }
+
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<List<TaskNode>> getAncestors(@PathVariable Long id) {
+        return ResponseEntity.ok(graphService.findAncestors(id));
+    }
+
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<TaskNode> setParent(@PathVariable Long id, @RequestParam Long parentId) {
+        return ResponseEntity.ok(graphService.setParent(id, parentId));
+    }
+
+    @DeleteMapping("/{id}/parent")
+    public ResponseEntity<TaskNode> removeParent(@PathVariable Long id) {
+        return ResponseEntity.ok(graphService.setParent(id, null));
+    }
+
+    @GetMapping("/{id}/blockers")
+    public ResponseEntity<List<TaskNode>> getBlockers(@PathVariable Long id) {
+        return ResponseEntity.ok(graphService.findBlockers(id));
+    }
+
+    @PostMapping("/{id}/blockers/add")
+    public ResponseEntity<Void> addBlockers(@PathVariable Long id, @RequestBody Set<Long> blockedByIds) {
+        graphService.addBlockers(id, blockedByIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/blockers/remove")
+    public ResponseEntity<Void> removeBlockers(@PathVariable Long id, @RequestBody Set<Long> blockedByIds) {
+        graphService.removeBlockers(id, blockedByIds);
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/users")
     public ResponseEntity<List<UserDto>> getUsersByTask(
             @RequestParam(required = false) Long taskId,
             @RequestParam(required = false) String taskTitle) {
-
-        List<Task> tasks = taskService.findAllTasks().stream()
-                .filter(task -> {
-                    boolean matchesId = (taskId == null || task.getId().equals(taskId));
-                    boolean matchesTitle = (taskTitle == null || task.getTitle().equalsIgnoreCase(taskTitle));
-                    return matchesId && matchesTitle;
-                })
-                .toList();
-
-        List<UserDto> usersDto = tasks.stream()
-                .flatMap(task -> task.getAssignedUsers().stream())
-                .distinct()
-                .map(user -> new UserDto(user.getId(), user.getFirstName(), user.getLastName()))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(usersDto);
+        return ResponseEntity.ok(taskService.findUsersByTask(taskId, taskTitle));
     }
 
 }
@@ -1,9 +1,12 @@
 package com.example.task_management.controller;
 
 import com.example.task_management.exception.AppException;
+import com.example.task_management.model.CursorPage;
 import com.example.task_management.model.TaskDao;
 import com.example.task_management.model.User;
+import com.example.task_management.model.UserDto;
 import com.example.task_management.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +38,37 @@ public class UserController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(params = "limit")
+    public CursorPage<User> getUsersAfter(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+
+        Cursors.checkLimit(limit);
+        List<User> users = userService.findUsersAfter(firstName, lastName, email, Cursors.decode(after), limit);
+        return Cursors.page(users, limit, User::getId);
+    }
+
+    @GetMapping("/summaries")
+    public List<UserDto> getUserSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return userService.findUserSummaries(Paging.pageRequest(page, size)).getContent();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+        User user = userService.findUserById(id);
+        return ResponseEntity.ok().eTag(ETags.of(user.getVersion())).body(user);
+    }
+
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<UserDto> getUserSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(userService.findUserSummary(id));
+    }
+
     @PostMapping
     public ResponseEntity<User> addUser(@Valid @RequestBody User user) {
         return ResponseEntity.ok(userService.addUser(user));
@@ -42,14 +76,18 @@ public class UserController {
 
     @PutMapping("/{id}")
     public ResponseEntity<User> updateUser(
-            @PathVariable Long id, @Valid @RequestBody User user) {
-        return ResponseEntity.ok(userService.updateUser(id, user));
+            @PathVariable Long id, @Valid @RequestBody User user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User updatedUser = userService.updateUser(id, user, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedUser.getVersion())).body(updatedUser);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<User> patchUser(
-            @PathVariable Long id, @RequestBody User user) {
-        return ResponseEntity.ok(userService.patchUser(id, user));
+            @PathVariable Long id, @RequestBody User user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User patchedUser = userService.patchUser(id, user, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(patchedUser.getVersion())).body(patchedUser);
     }
 
     @DeleteMapping("/{id}")
@@ -63,22 +101,7 @@ public class UserController {
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) String lastName,
             @RequestParam(required = false) String email) {
-
-        List<User> users = userService.findAllUsers().stream()
-                .filter(user -> (userId == null || user.getId().equals(userId)))
-                .filter(user -> (lastName == null || user.getLastName().equalsIgnoreCase(lastName)))
-                .filter(user -> (email == null || user.getEmail().equalsIgnoreCase(email)))
-                .toList();
-
-        List<TaskDao> tasks = users.stream()
-                .flatMap(user -> user.getTasks().stream())
-                .distinct()
-                .map(task -> new TaskDao(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus()))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok(userService.findTasksByUser(userId, lastName, email));
     }
 
-
-
 }
@@ -0,0 +1,86 @@
+package com.example.task_management.event;
+
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public class TaskChange {
+    private long sequence;
+    private Instant occurredAt;
+    private TaskEvent.Type type;
+    private List<Long> taskIds;
+    private List<TaskDao> tasks;
+    private TaskStatus status;
+    private Set<Long> userIds;
+
+    public static TaskChange of(long sequence, TaskEvent event) {
+        TaskChange change = new TaskChange();
+        change.sequence = sequence;
+        change.occurredAt = Instant.now();
+        change.type = event.getType();
+        change.taskIds = event.getTaskIds();
+        change.tasks = event.getTasks();
+        change.status = event.getStatus();
+        change.userIds = event.getUserIds();
+        return change;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public TaskEvent.Type getType() {
+        return type;
+    }
+
+    public void setType(TaskEvent.Type type) {
+        this.type = type;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public List<TaskDao> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDao> tasks) {
+        this.tasks = tasks;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(Set<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.task_management.event;
+
+import com.example.task_management.exception.AppException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TaskChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private static final long HEARTBEAT_SECONDS = 15;
+
+    private final TaskEventLog eventLog;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TaskChangeFeed(TaskEventLog eventLog,
+                          @Value("${app.feed.queue-capacity:1000}") int queueCapacity,
+                          @Value("${app.feed.max-subscribers:1000}") int maxSubscribers,
+                          @Value("${app.feed.timeout-ms:1800000}") long timeoutMs) {
+        this.eventLog = eventLog;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        TaskChange change = eventLog.append(event);
+        for (Subscriber subscriber : subscribers) {
+            // Never block the writer: a subscriber that cannot keep up is disconnected
+            // and resumes from the event log with Last-Event-ID when it reconnects.
+            if (!subscriber.queue.offer(change)) {
+                subscriber.close();
+            }
+        }
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new AppException("Too many change feed subscribers", "TOO_MANY_SUBSCRIBERS",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(queueCapacity));
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        long lastSequence = eventLog.lastSequence();
+        String resetReason = null;
+        if (lastEventId != null && lastEventId > lastSequence) {
+            // The log restarted (lost file or in-memory log); the id belongs to an older sequence
+            resetReason = "Event log does not hold " + lastEventId + ", latest is " + lastSequence;
+        } else if (lastEventId != null && eventLog.isTruncatedAfter(lastEventId)) {
+            resetReason = "Event log no longer holds " + lastEventId;
+        }
+        long cursor = lastEventId != null && lastEventId <= lastSequence ? lastEventId : lastSequence;
+        String reset = resetReason;
+        senders.execute(() -> stream(subscriber, cursor, reset));
+        return emitter;
+    }
+
+    private void stream(Subscriber subscriber, long cursor, String resetReason) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            if (resetReason != null) {
+                emitter.send(SseEmitter.event().name("reset").data(resetReason));
+            }
+            for (TaskChange change : eventLog.readAfter(cursor)) {
+                send(emitter, change);
+                cursor = change.getSequence();
+            }
+
+            // Writers can offer to the queue out of sequence order, so a queued change only wakes the
+            // sender; what to send is read from the log, which always holds changes in sequence order.
+            while (!subscriber.closed) {
+                if (subscriber.queue.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS) == null) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                    continue;
+                }
+                subscriber.queue.clear();
+                for (TaskChange change : eventLog.readAfter(cursor)) {
+                    send(emitter, change);
+                    cursor = change.getSequence();
+                }
+            }
+            emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed subscriber disconnected", e);
+        } finally {
+            subscriber.close();
+        }
+    }
+
+    private void send(SseEmitter emitter, TaskChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(change.getSequence()))
+                .name(change.getType().name())
+                .data(change));
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(Subscriber::close);
+        senders.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskChange> queue;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<TaskChange> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
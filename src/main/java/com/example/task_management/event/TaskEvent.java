@@ -0,0 +1,77 @@
+package com.example.task_management.event;
+
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskStatus;
+
+import java.util.List;
+import java.util.Set;
+
+public class TaskEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        DELETED,
+        OVERDUE
+    }
+
+    private final Type type;
+    private final List<Long> taskIds;
+    private final List<TaskDao> tasks;
+    private final TaskStatus status;
+    private final Set<Long> userIds;
+
+    private TaskEvent(Type type, List<Long> taskIds, List<TaskDao> tasks, TaskStatus status, Set<Long> userIds) {
+        this.type = type;
+        this.taskIds = taskIds;
+        this.tasks = tasks;
+        this.status = status;
+        this.userIds = userIds;
+    }
+
+    public static TaskEvent created(List<TaskDao> tasks) {
+        return new TaskEvent(Type.CREATED, tasks.stream().map(TaskDao::getId).toList(), tasks, null, null);
+    }
+
+    public static TaskEvent updated(TaskDao task) {
+        return new TaskEvent(Type.UPDATED, List.of(task.getId()), List.of(task), null, null);
+    }
+
+    public static TaskEvent statusChanged(List<Long> taskIds, TaskStatus status) {
+        return new TaskEvent(Type.STATUS_CHANGED, taskIds, List.of(), status, null);
+    }
+
+    public static TaskEvent assigned(Long taskId, Set<Long> userIds) {
+        return new TaskEvent(Type.ASSIGNED, List.of(taskId), List.of(), null, userIds);
+    }
+
+    public static TaskEvent deleted(List<Long> taskIds) {
+        return new TaskEvent(Type.DELETED, taskIds, List.of(), null, null);
+    }
+
+    public static TaskEvent overdue(List<TaskDao> tasks) {
+        return new TaskEvent(Type.OVERDUE, tasks.stream().map(TaskDao::getId).toList(), tasks, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public List<TaskDao> getTasks() {
+        return tasks;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+}
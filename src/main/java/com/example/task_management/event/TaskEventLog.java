@@ -0,0 +1,186 @@
+package com.example.task_management.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TaskEventLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventLog.class);
+
+    private final ObjectMapper objectMapper;
+    private final int retainedEvents;
+    private final Deque<TaskChange> recent = new ArrayDeque<>();
+    private final Path file;
+    // Not synchronized: appends write the file on the committing request thread, and a monitor held
+    // across that IO would pin the carrier thread under virtual threads.
+    private final ReentrantLock lock = new ReentrantLock();
+    private BufferedWriter writer;
+    private long fileLines;
+    private long lastSequence;
+
+    public TaskEventLog(ObjectMapper objectMapper,
+                        @Value("${app.feed.log-file:}") String logFile,
+                        @Value("${app.feed.retained-events:10000}") int retainedEvents) throws IOException {
+        this.objectMapper = objectMapper;
+        this.retainedEvents = retainedEvents;
+        this.file = StringUtils.hasText(logFile) ? Path.of(logFile) : null;
+        if (file != null) {
+            open();
+        }
+    }
+
+    public TaskChange append(TaskEvent event) {
+        lock.lock();
+        try {
+            TaskChange change = TaskChange.of(++lastSequence, event);
+            recent.addLast(change);
+            if (recent.size() > retainedEvents) {
+                recent.removeFirst();
+            }
+
+            if (writer != null) {
+                try {
+                    writer.write(objectMapper.writeValueAsString(change));
+                    writer.newLine();
+                    writer.flush();
+                    if (++fileLines > 2L * retainedEvents) {
+                        writer.close();
+                        compact();
+                        writer = openWriter();
+                    }
+                } catch (IOException e) {
+                    log.error("Failed to append task change {} to {}", change.getSequence(), file, e);
+                }
+            }
+            return change;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Walks back from the newest change, so a subscriber that is caught up costs a single step.
+    public List<TaskChange> readAfter(long sequence) {
+        lock.lock();
+        try {
+            List<TaskChange> changes = new ArrayList<>();
+            Iterator<TaskChange> newestFirst = recent.descendingIterator();
+            while (newestFirst.hasNext()) {
+                TaskChange change = newestFirst.next();
+                if (change.getSequence() <= sequence) {
+                    break;
+                }
+                changes.add(change);
+            }
+            Collections.reverse(changes);
+            return changes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // True when changes after the given sequence have already been dropped from the log.
+    public boolean isTruncatedAfter(long sequence) {
+        lock.lock();
+        try {
+            return !recent.isEmpty() && recent.getFirst().getSequence() > sequence + 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    fileLines++;
+                    load(line);
+                }
+            }
+        }
+        if (fileLines > retainedEvents) {
+            compact();
+        }
+
+        writer = openWriter();
+        log.info("Opened task event log {} at sequence {}", file, lastSequence);
+    }
+
+    private void load(String line) {
+        try {
+            TaskChange change = objectMapper.readValue(line, TaskChange.class);
+            recent.addLast(change);
+            if (recent.size() > retainedEvents) {
+                recent.removeFirst();
+            }
+            lastSequence = Math.max(lastSequence, change.getSequence());
+        } catch (JsonProcessingException e) {
+            // A torn final line is expected after a crash mid-append.
+            log.warn("Skipping unreadable line in task event log {}", file);
+        }
+    }
+
+    private BufferedWriter openWriter() throws IOException {
+        return Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void compact() throws IOException {
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        try (BufferedWriter out = Files.newBufferedWriter(compacted)) {
+            for (TaskChange change : recent) {
+                out.write(objectMapper.writeValueAsString(change));
+                out.newLine();
+            }
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        fileLines = recent.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.task_management.event;
+
+import com.example.task_management.model.UserDto;
+
+public class UserEvent {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final UserDto user;
+
+    private UserEvent(Type type, Long userId, UserDto user) {
+        this.type = type;
+        this.userId = userId;
+        this.user = user;
+    }
+
+    public static UserEvent saved(UserDto user) {
+        return new UserEvent(Type.SAVED, user.getId(), user);
+    }
+
+    public static UserEvent deleted(Long userId) {
+        return new UserEvent(Type.DELETED, userId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserDto getUser() {
+        return user;
+    }
+}
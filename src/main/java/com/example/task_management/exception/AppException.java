@@ -34,4 +34,29 @@ public class AppException extends RuntimeException {
     public static AppException invalidEmailFormat(String email) {
         return new AppException("Email " + email + " has an invalid format", "INVALID_EMAIL_FORMAT", HttpStatus.BAD_REQUEST);
     }
+
+    public static AppException versionMismatch(String resource, Long id) {
+        return new AppException(resource + " with ID " + id + " has been modified", "PRECONDITION_FAILED", HttpStatus.PRECONDITION_FAILED);
+    }
+
+    public static AppException concurrentModification() {
+        return new AppException("The resource was modified concurrently", "CONCURRENT_MODIFICATION", HttpStatus.CONFLICT);
+    }
+
+    public static AppException dependencyCycle(Long taskId) {
+        return new AppException("The change would create a cycle through task " + taskId, "DEPENDENCY_CYCLE", HttpStatus.CONFLICT);
+    }
+
+    public static AppException idempotencyKeyReused() {
+        return new AppException("Idempotency-Key was already used with a different request", "IDEMPOTENCY_KEY_REUSED", HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    public static AppException idempotentBodyTooLarge(long maxBytes) {
+        return new AppException("Requests with an Idempotency-Key may carry at most " + maxBytes + " body bytes",
+                "PAYLOAD_TOO_LARGE", HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    public static AppException idempotencyKeyInProgress() {
+        return new AppException("A request with this Idempotency-Key is still in progress", "IDEMPOTENCY_KEY_IN_PROGRESS", HttpStatus.CONFLICT);
+    }
 }
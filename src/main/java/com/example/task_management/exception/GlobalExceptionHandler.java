@@ -1,5 +1,9 @@
 package com.example.task_management.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,14 +17,28 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(AppException.class)
     public ResponseEntity<Map<String, Object>> handleAppException(AppException ex) {
+        countError(ex.getErrorCode());
         Map<String, Object> response = new HashMap<>();
         response.put("errorCode", ex.getErrorCode());
         response.put("message", ex.getMessage());
         return new ResponseEntity<>(response, ex.getStatus());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return handleAppException(AppException.concurrentModification());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -28,6 +46,7 @@ public class GlobalExceptionHandler {
                 errors.put(error.getField(), error.getDefaultMessage())
         );
 
+        countError("VALIDATION_ERROR");
         Map<String, Object> response = new HashMap<>();
         response.put("errorCode", "VALIDATION_ERROR");
         response.put("message", "Validation failed");
@@ -38,13 +57,15 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
+        log.error("Unhandled exception", ex);
+        countError("INTERNAL_SERVER_ERROR");
         Map<String, Object> response = new HashMap<>();
         response.put("errorCode", "INTERNAL_SERVER_ERROR");
         response.put("message", "An unexpected error occurred");
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
-
-
-
 
+    private void countError(String errorCode) {
+        meterRegistry.counter("app.errors", "errorCode", errorCode).increment();
+    }
+}
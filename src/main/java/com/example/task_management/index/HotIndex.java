@@ -0,0 +1,199 @@
+package com.example.task_management.index;
+
+import com.example.task_management.event.TaskEvent;
+import com.example.task_management.event.UserEvent;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.UserDto;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+// Read model of task and user summaries keyed by primitive id. Until warm() has finished,
+// isReady() is false and callers are expected to go to the database instead.
+@Component
+public class HotIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HotIndex.class);
+    private static final int WARM_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongObjectHashMap<TaskDao> tasks = new LongObjectHashMap<>(1024);
+    private final LongObjectHashMap<UserDto> users = new LongObjectHashMap<>(1024);
+
+    // Ids changed by events while warming; the streamed rows for them may be older than the event.
+    private Set<Long> touchedTasks = new HashSet<>();
+    private Set<Long> touchedUsers = new HashSet<>();
+    private volatile boolean ready;
+
+    public HotIndex(TaskRepository taskRepository, UserRepository userRepository,
+                    PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskDao> rows = taskRepository.streamAllSummaries()) {
+                load(rows, tasks, TaskDao::getId, touchedTasks);
+            }
+            try (Stream<UserDto> rows = userRepository.streamAllSummaries()) {
+                load(rows, users, UserDto::getId, touchedUsers);
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            touchedTasks = null;
+            touchedUsers = null;
+            ready = true;
+            log.info("Warmed hot index with {} tasks and {} users", tasks.size(), users.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> event.getTasks().forEach(task -> tasks.put(task.getId(), task));
+                case STATUS_CHANGED -> event.getTaskIds().forEach(id -> {
+                    TaskDao task = tasks.get(id);
+                    if (task != null) {
+                        tasks.put(id, new TaskDao(id, task.getTitle(), task.getDescription(), task.getDueDate(),
+                                event.getStatus()));
+                    }
+                });
+                case DELETED -> event.getTaskIds().forEach(tasks::remove);
+                default -> {
+                    return;
+                }
+            }
+            if (touchedTasks != null) {
+                touchedTasks.addAll(event.getTaskIds());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserEvent(UserEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == UserEvent.Type.SAVED) {
+                users.put(event.getUserId(), event.getUser());
+            } else {
+                users.remove(event.getUserId());
+            }
+            if (touchedUsers != null) {
+                touchedUsers.add(event.getUserId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Optional<TaskDao> findTask(long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(tasks.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<UserDto> findUser(long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(users.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean containsAllUsers(Iterable<Long> ids) {
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                if (!users.containsKey(id)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TaskDao> findTasks(List<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<TaskDao> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                TaskDao task = tasks.get(id);
+                if (task != null) {
+                    found.add(task);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private <T> void load(Stream<T> rows, LongObjectHashMap<T> target, ToLongFunction<T> id, Set<Long> touched) {
+        List<T> batch = new ArrayList<>(WARM_BATCH_SIZE);
+        rows.forEach(row -> {
+            batch.add(row);
+            if (batch.size() == WARM_BATCH_SIZE) {
+                putAll(batch, target, id, touched);
+                batch.clear();
+            }
+        });
+        putAll(batch, target, id, touched);
+    }
+
+    private <T> void putAll(List<T> batch, LongObjectHashMap<T> target, ToLongFunction<T> id, Set<Long> touched) {
+        lock.writeLock().lock();
+        try {
+            for (T row : batch) {
+                long key = id.applyAsLong(row);
+                if (!touched.contains(key)) {
+                    target.put(key, row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
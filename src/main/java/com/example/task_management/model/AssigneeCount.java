@@ -0,0 +1,19 @@
+package com.example.task_management.model;
+
+public class AssigneeCount {
+    private final Long userId;
+    private final long count;
+
+    public AssigneeCount(Long userId, Long count) {
+        this.userId = userId;
+        this.count = count;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.task_management.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Set;
+
+public class BulkAssignRequest {
+
+    @NotEmpty(message = "Task IDs cannot be empty")
+    private Set<Long> taskIds;
+
+    @NotNull(message = "User IDs cannot be null")
+    private Set<Long> userIds;
+
+    public Set<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(Set<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(Set<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
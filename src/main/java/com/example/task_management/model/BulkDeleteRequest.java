@@ -0,0 +1,47 @@
+package com.example.task_management.model;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.List;
+
+public class BulkDeleteRequest {
+
+    private List<Long> ids;
+
+    private TaskStatus status;
+
+    @PositiveOrZero(message = "olderThanDays cannot be negative")
+    private Integer olderThanDays;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Integer getOlderThanDays() {
+        return olderThanDays;
+    }
+
+    public void setOlderThanDays(Integer olderThanDays) {
+        this.olderThanDays = olderThanDays;
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return status != null || olderThanDays != null;
+    }
+}
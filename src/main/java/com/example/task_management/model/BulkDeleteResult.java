@@ -0,0 +1,13 @@
+package com.example.task_management.model;
+
+public class BulkDeleteResult {
+    private final int count;
+
+    public BulkDeleteResult(int count) {
+        this.count = count;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.task_management.model;
+
+import java.util.Map;
+
+public class BulkItemResult {
+    private final int index;
+    private final Long id;
+    private final String status;
+    private final Map<String, String> errors;
+
+    public BulkItemResult(int index, Long id, String status, Map<String, String> errors) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, id, "CREATED", Map.of());
+    }
+
+    public static BulkItemResult invalid(int index, Map<String, String> errors) {
+        return new BulkItemResult(index, null, "INVALID", errors);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
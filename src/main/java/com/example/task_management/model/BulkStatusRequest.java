@@ -0,0 +1,68 @@
+package com.example.task_management.model;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class BulkStatusRequest {
+
+    @NotNull(message = "Target status cannot be null")
+    private TaskStatus status;
+
+    private List<Long> ids;
+
+    private TaskStatus fromStatus;
+
+    private LocalDate dueAfter;
+
+    private LocalDate dueBefore;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(TaskStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public LocalDate getDueAfter() {
+        return dueAfter;
+    }
+
+    public void setDueAfter(LocalDate dueAfter) {
+        this.dueAfter = dueAfter;
+    }
+
+    public LocalDate getDueBefore() {
+        return dueBefore;
+    }
+
+    public void setDueBefore(LocalDate dueBefore) {
+        this.dueBefore = dueBefore;
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return fromStatus != null || dueAfter != null || dueBefore != null;
+    }
+}
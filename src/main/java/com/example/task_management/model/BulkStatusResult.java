@@ -0,0 +1,21 @@
+package com.example.task_management.model;
+
+import java.util.List;
+
+public class BulkStatusResult {
+    private final int count;
+    private final List<Long> ids;
+
+    public BulkStatusResult(int count, List<Long> ids) {
+        this.count = count;
+        this.ids = ids;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+}
@@ -1,29 +1,57 @@
 package com.example.task_management.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        @Index(name = "idx_task_status", columnList = "status"),
+        @Index(name = "idx_task_due_date", columnList = "dueDate"),
+        @Index(name = "idx_task_title", columnList = "title"),
+        @Index(name = "idx_task_title_normalized", columnList = "title_normalized"),
+        @Index(name = "idx_task_parent_id", columnList = "parent_id")
+})
 @JsonIdentityInfo(
         generator = ObjectIdGenerators.PropertyGenerator.class,
         property = "id"
 )
+@JsonFilter(Task.FIELDS_FILTER)
 public class Task {
 
+    public static final String FIELDS_FILTER = "taskFields";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank(message = "Title cannot be blank")
     private String title;
 
+    // Lower-cased copy of title for indexed case-insensitive lookups
+    @JsonIgnore
+    @Column(name = "title_normalized")
+    private String titleNormalized;
+
     @NotBlank(message = "Description cannot be blank")
     private String description;
 
@@ -34,13 +62,26 @@ public class Task {
     @NotNull(message = "Due date cannot be null")
     private LocalDate dueDate;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
+    // Changed only through the parent endpoint, which checks for cycles
+    @Column(name = "parent_id")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long parentId;
+
+    // Log sequence of a write-behind status change not yet flushed; part of the ETag
+    @Transient
+    @JsonIgnore
+    private Long pendingSequence;
+
+    @ManyToMany(cascade = {CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinTable(
             name = "task_user",
             joinColumns = @JoinColumn(name = "task_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id")
+            inverseJoinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
+            indexes = @Index(name = "idx_task_user_user_task", columnList = "user_id, task_id")
     )
     @JsonIgnoreProperties("tasks")
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<User> assignedUsers = new HashSet<>();
 
     public Long getId() {
@@ -51,12 +92,29 @@ public class Task {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
 
     public void setTitle(String title) {
         this.title = title;
+        this.titleNormalized = normalizeTitle(title);
+    }
+
+    public String getTitleNormalized() {
+        return titleNormalized;
+    }
+
+    public static String normalizeTitle(String title) {
+        return title == null ? null : title.toLowerCase(Locale.ROOT);
     }
 
     public String getDescription() {
@@ -83,6 +141,22 @@ public class Task {
         this.dueDate = dueDate;
     }
 
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Long getPendingSequence() {
+        return pendingSequence;
+    }
+
+    public void setPendingSequence(Long pendingSequence) {
+        this.pendingSequence = pendingSequence;
+    }
+
     public Set<User> getAssignedUsers() {
         return assignedUsers;
     }
@@ -0,0 +1,27 @@
+package com.example.task_management.model;
+
+import java.time.LocalDate;
+
+public class TaskBucketCount {
+    private final TaskStatus status;
+    private final LocalDate dueDate;
+    private final long count;
+
+    public TaskBucketCount(TaskStatus status, LocalDate dueDate, Long count) {
+        this.status = status;
+        this.dueDate = dueDate;
+        this.count = count;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.task_management.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "task_counter", indexes = @Index(name = "idx_task_counter_kind_bucket", columnList = "kind, bucket"))
+public class TaskCounter {
+
+    public enum Kind {
+        STATUS,
+        DUE_DATE,
+        ASSIGNEE
+    }
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long count;
+
+    public static String idOf(Kind kind, String bucket) {
+        return kind + ":" + bucket;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
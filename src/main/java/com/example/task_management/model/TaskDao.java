@@ -1,7 +1,10 @@
 package com.example.task_management.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDate;
 
+@JsonFilter(Task.FIELDS_FILTER)
 public class TaskDao {
     private Long id;
     private String title;
@@ -9,6 +12,9 @@ public class TaskDao {
     private LocalDate dueDate;
     private TaskStatus status;
 
+    public TaskDao() {
+    }
+
     public TaskDao(Long id, String title, String description, LocalDate dueDate, TaskStatus status) {
         this.id = id;
         this.title = title;
@@ -17,6 +23,10 @@ public class TaskDao {
         this.status = status;
     }
 
+    public static TaskDao from(Task task) {
+        return new TaskDao(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), task.getStatus());
+    }
+
     public Long getId() {
         return id;
     }
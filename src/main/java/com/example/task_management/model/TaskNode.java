@@ -0,0 +1,75 @@
+package com.example.task_management.model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.time.LocalDate;
+
+@JsonFilter(Task.FIELDS_FILTER)
+public class TaskNode {
+    private Long id;
+    private Long parentId;
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+    private TaskStatus status;
+
+    public TaskNode() {
+    }
+
+    public TaskNode(Long id, Long parentId, String title, String description, LocalDate dueDate, TaskStatus status) {
+        this.id = id;
+        this.parentId = parentId;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.task_management.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public class TaskStats {
+    private final Map<TaskStatus, Long> byStatus;
+    private final long overdue;
+    private final Map<LocalDate, Long> overdueByDueDate;
+    private final Map<Long, Long> byAssignee;
+
+    public TaskStats(Map<TaskStatus, Long> byStatus, long overdue, Map<LocalDate, Long> overdueByDueDate,
+                     Map<Long, Long> byAssignee) {
+        this.byStatus = byStatus;
+        this.overdue = overdue;
+        this.overdueByDueDate = overdueByDueDate;
+        this.byAssignee = byAssignee;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public Map<LocalDate, Long> getOverdueByDueDate() {
+        return overdueByDueDate;
+    }
+
+    public Map<Long, Long> getByAssignee() {
+        return byAssignee;
+    }
+}
@@ -1,8 +1,18 @@
 package com.example.task_management.model;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum TaskStatus {
     OPEN,
     IN_PROGRESS,
     COMPLETED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED;
+
+    public static final Set<TaskStatus> ACTIVE = Collections.unmodifiableSet(EnumSet.of(OPEN, IN_PROGRESS));
+
+    public boolean isActive() {
+        return ACTIVE.contains(this);
+    }
+}
@@ -1,36 +1,62 @@
 package com.example.task_management.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
-@Table(name = "app_user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "app_user",
+        indexes = @Index(name = "idx_app_user_last_name_normalized", columnList = "last_name_normalized"),
+        uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email_normalized"))
 @JsonIdentityInfo(
         generator = ObjectIdGenerators.PropertyGenerator.class,
         property = "id"
 )
+@JsonFilter(User.FIELDS_FILTER)
 public class User {
 
+    public static final String EMAIL_CONSTRAINT = "uk_app_user_email_normalized";
+    public static final String FIELDS_FILTER = "userFields";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank(message = "First name cannot be blank")
     private String firstName;
 
     @NotBlank(message = "Last name cannot be blank")
     private String lastName;
 
+    @JsonIgnore
+    @Column(name = "last_name_normalized")
+    private String lastNameNormalized;
+
     @Email(message = "Email should be valid")
     @NotBlank(message = "Email cannot be blank")
     private String email;
 
+    @JsonIgnore
+    @Column(name = "email_normalized")
+    private String emailNormalized;
+
     @ManyToMany(mappedBy = "assignedUsers", cascade = {CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
+    @BatchSize(size = 100)
     private Set<Task> tasks = new HashSet<>();
 
     public Long getId() {
@@ -41,6 +67,14 @@ public class User {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getFirstName() {
         return firstName;
     }
@@ -55,6 +89,15 @@ public class User {
 
     public void setLastName(String lastName) {
         this.lastName = lastName;
+        this.lastNameNormalized = normalizeLastName(lastName);
+    }
+
+    public String getLastNameNormalized() {
+        return lastNameNormalized;
+    }
+
+    public static String normalizeLastName(String lastName) {
+        return lastName == null ? null : lastName.toLowerCase(Locale.ROOT);
     }
 
     public String getEmail() {
@@ -63,6 +106,15 @@ public class User {
 
     public void setEmail(String email) {
         this.email = email;
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    public String getEmailNormalized() {
+        return emailNormalized;
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
     }
 
     public Set<Task> getTasks() {
@@ -0,0 +1,39 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.TaskCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, String> {
+
+    List<TaskCounter> findByKind(TaskCounter.Kind kind);
+
+    List<TaskCounter> findByKindAndBucketLessThan(TaskCounter.Kind kind, String bucket);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_counter"))
+    @Query(value = "MERGE INTO task_counter c " +
+            "USING (VALUES (CAST(:id AS VARCHAR(255)), CAST(:kind AS VARCHAR(255)), " +
+            "CAST(:bucket AS VARCHAR(255)), CAST(:delta AS BIGINT))) v(id, kind, bucket, delta) " +
+            "ON c.id = v.id " +
+            "WHEN MATCHED THEN UPDATE SET task_count = c.task_count + v.delta " +
+            "WHEN NOT MATCHED THEN INSERT (id, kind, bucket, task_count) VALUES (v.id, v.kind, v.bucket, v.delta)",
+            nativeQuery = true)
+    int increment(String id, String kind, String bucket, long delta);
+
+    // Runs right after the decrement in the same transaction, which still holds the row lock
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_counter"))
+    @Query(value = "DELETE FROM task_counter WHERE id = :id AND task_count = 0", nativeQuery = true)
+    int deleteIfZero(String id);
+
+    @Modifying
+    @Query("DELETE FROM TaskCounter c WHERE c.id = :id")
+    int deleteCounterById(String id);
+}
@@ -1,14 +1,206 @@
 package com.example.task_management.repository;
 
+import com.example.task_management.model.AssigneeCount;
 import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskBucketCount;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskNode;
+import com.example.task_management.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedUsers WHERE t.id = :taskId")
     Optional<Task> findByIdWithUsers(Long taskId);
-}
 
+    @EntityGraph(attributePaths = "assignedUsers")
+    List<Task> findWithUsersByIdIn(Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.task_management.model.TaskDao(t.id, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t ORDER BY t.id")
+    Stream<TaskDao> streamAllSummaries();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.task_management.model.TaskDao(t.id, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t WHERE t.dueDate BETWEEN :from AND :to AND t.status IN :statuses")
+    Stream<TaskDao> streamDueBetween(LocalDate from, LocalDate to, Collection<TaskStatus> statuses);
+
+    @Query("SELECT MIN(t.dueDate) FROM Task t WHERE t.status IN :statuses")
+    Optional<LocalDate> findEarliestDueDate(Collection<TaskStatus> statuses);
+
+    @Query("SELECT new com.example.task_management.model.TaskDao(t.id, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:dueDate IS NULL OR t.dueDate = :dueDate) " +
+            "AND (:titlePrefix IS NULL OR t.titleNormalized LIKE :titlePrefix ESCAPE '\\')")
+    Slice<TaskDao> findSummaries(TaskStatus status, String titlePrefix, LocalDate dueDate, Pageable pageable);
+
+    // Slice rather than Page: the list endpoint never shows a total, so no COUNT query runs
+    @Query("SELECT t FROM Task t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:dueDate IS NULL OR t.dueDate = :dueDate) " +
+            "AND (:titlePrefix IS NULL OR t.titleNormalized LIKE :titlePrefix ESCAPE '\\')")
+    Slice<Task> findSlice(TaskStatus status, String titlePrefix, LocalDate dueDate, Pageable pageable);
+
+    @Query("SELECT new com.example.task_management.model.TaskDao(t.id, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskDao> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.example.task_management.model.TaskBucketCount(t.status, t.dueDate, COUNT(t)) " +
+            "FROM Task t WHERE t.id IN :ids GROUP BY t.status, t.dueDate")
+    List<TaskBucketCount> countBuckets(Collection<Long> ids);
+
+    @Query("SELECT new com.example.task_management.model.TaskBucketCount(t.status, t.dueDate, COUNT(t)) " +
+            "FROM Task t GROUP BY t.status, t.dueDate")
+    List<TaskBucketCount> countAllBuckets();
+
+    @Query("SELECT new com.example.task_management.model.AssigneeCount(u.id, COUNT(t)) " +
+            "FROM Task t JOIN t.assignedUsers u WHERE t.id IN :ids GROUP BY u.id")
+    List<AssigneeCount> countAssignees(Collection<Long> ids);
+
+    @Query("SELECT new com.example.task_management.model.AssigneeCount(u.id, COUNT(t)) " +
+            "FROM Task t JOIN t.assignedUsers u GROUP BY u.id")
+    List<AssigneeCount> countAllAssignees();
+
+    @Query("SELECT DISTINCT new com.example.task_management.model.TaskDao(t.id, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t JOIN t.assignedUsers u " +
+            "WHERE (:userId IS NULL OR u.id = :userId) " +
+            "AND (:lastName IS NULL OR u.lastNameNormalized = LOWER(:lastName)) " +
+            "AND (:email IS NULL OR u.emailNormalized = LOWER(:email))")
+    List<TaskDao> findSummariesByAssignee(Long userId, String lastName, String email);
+
+    @Query("SELECT t.id FROM Task t " +
+            "WHERE t.id IN :ids AND t.status <> :status " +
+            "AND (:fromStatus IS NULL OR t.status = :fromStatus) " +
+            "AND (:dueAfter IS NULL OR t.dueDate >= :dueAfter) " +
+            "AND (:dueBefore IS NULL OR t.dueDate <= :dueBefore) " +
+            "ORDER BY t.id")
+    List<Long> findIdsForTransition(Collection<Long> ids, TaskStatus status,
+                                    TaskStatus fromStatus, LocalDate dueAfter, LocalDate dueBefore);
+
+    @Query("SELECT t.id FROM Task t " +
+            "WHERE t.status <> :status " +
+            "AND (:fromStatus IS NULL OR t.status = :fromStatus) " +
+            "AND (:dueAfter IS NULL OR t.dueDate >= :dueAfter) " +
+            "AND (:dueBefore IS NULL OR t.dueDate <= :dueBefore) " +
+            "ORDER BY t.id")
+    List<Long> findIdsForTransition(TaskStatus status, TaskStatus fromStatus, LocalDate dueAfter, LocalDate dueBefore);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = COALESCE(t.version, 0) + 1 WHERE t.id IN :ids")
+    int updateStatusByIdIn(Collection<Long> ids, TaskStatus status);
+
+    @Query("SELECT t.id FROM Task t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:dueBefore IS NULL OR t.dueDate < :dueBefore) " +
+            "ORDER BY t.id")
+    List<Long> findIdsForDeletion(TaskStatus status, LocalDate dueBefore, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_user"))
+    @Query(value = "DELETE FROM task_user WHERE task_id IN :taskIds", nativeQuery = true)
+    int deleteAssignmentsByTaskIdIn(Collection<Long> taskIds);
+
+    @Query("SELECT new com.example.task_management.model.TaskNode(" +
+            "t.id, t.parentId, t.title, t.description, t.dueDate, t.status) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskNode> findNodesByIdIn(Collection<Long> ids);
+
+    long countByIdIn(Collection<Long> ids);
+
+    boolean existsByParentId(Long parentId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task"))
+    @Query(value = "WITH RECURSIVE subtree(id, depth) AS (" +
+            "SELECT id, 1 FROM task WHERE parent_id = :taskId " +
+            "UNION ALL " +
+            "SELECT t.id, s.depth + 1 FROM task t JOIN subtree s ON t.parent_id = s.id) " +
+            "SELECT id FROM subtree ORDER BY depth, id", nativeQuery = true)
+    List<Long> findSubtreeIds(Long taskId);
+
+    // Root first
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task"))
+    @Query(value = "WITH RECURSIVE ancestors(id, parent_id, depth) AS (" +
+            "SELECT p.id, p.parent_id, 1 FROM task c JOIN task p ON p.id = c.parent_id WHERE c.id = :taskId " +
+            "UNION ALL " +
+            "SELECT t.id, t.parent_id, a.depth + 1 FROM task t JOIN ancestors a ON t.id = a.parent_id) " +
+            "SELECT id FROM ancestors ORDER BY depth DESC", nativeQuery = true)
+    List<Long> findAncestorIds(Long taskId);
+
+    // UNION rather than UNION ALL so tasks reachable along several paths are visited once
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_dependency"))
+    @Query(value = "WITH RECURSIVE blockers(id) AS (" +
+            "SELECT blocked_by_id FROM task_dependency WHERE task_id = :taskId " +
+            "UNION " +
+            "SELECT d.blocked_by_id FROM task_dependency d JOIN blockers b ON d.task_id = b.id) " +
+            "SELECT id FROM blockers ORDER BY id", nativeQuery = true)
+    List<Long> findBlockerIds(Long taskId);
+
+    // Walks up from the proposed parent only; a hit means the task would become its own ancestor
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task"))
+    @Query(value = "WITH RECURSIVE chain(id, parent_id) AS (" +
+            "SELECT id, parent_id FROM task WHERE id = :parentId " +
+            "UNION ALL " +
+            "SELECT t.id, t.parent_id FROM task t JOIN chain c ON t.id = c.parent_id) " +
+            "SELECT COUNT(*) FROM chain WHERE id = :taskId", nativeQuery = true)
+    long countInParentChain(Long parentId, Long taskId);
+
+    // Walks the blockers of the proposed blockers only; a hit means the task would block itself
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_dependency"))
+    @Query(value = "WITH RECURSIVE reachable(id) AS (" +
+            "SELECT id FROM task WHERE id IN :blockedByIds " +
+            "UNION " +
+            "SELECT d.blocked_by_id FROM task_dependency d JOIN reachable r ON d.task_id = r.id) " +
+            "SELECT COUNT(*) FROM reachable WHERE id = :taskId", nativeQuery = true)
+    long countReachableBlockers(Collection<Long> blockedByIds, Long taskId);
+
+    // Held until commit; see TaskGraphService
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_graph_lock"))
+    @Query(value = "SELECT id FROM task_graph_lock WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    Integer lockGraph();
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.parentId = NULL, t.version = COALESCE(t.version, 0) + 1 WHERE t.parentId IN :taskIds")
+    int detachChildren(Collection<Long> taskIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_dependency"))
+    @Query(value = "INSERT INTO task_dependency (task_id, blocked_by_id) " +
+            "SELECT CAST(:taskId AS BIGINT), t.id FROM task t WHERE t.id IN :blockedByIds " +
+            "AND NOT EXISTS (SELECT 1 FROM task_dependency d WHERE d.task_id = :taskId AND d.blocked_by_id = t.id)",
+            nativeQuery = true)
+    int addDependencies(Long taskId, Collection<Long> blockedByIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_dependency"))
+    @Query(value = "DELETE FROM task_dependency WHERE task_id = :taskId AND blocked_by_id IN :blockedByIds",
+            nativeQuery = true)
+    int removeDependencies(Long taskId, Collection<Long> blockedByIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_dependency"))
+    @Query(value = "DELETE FROM task_dependency WHERE task_id IN :taskIds OR blocked_by_id IN :taskIds",
+            nativeQuery = true)
+    int deleteDependenciesByTaskIdIn(Collection<Long> taskIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int deleteTasksByIdIn(Collection<Long> taskIds);
+}
@@ -0,0 +1,44 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskStatus status, String title, LocalDate dueDate) {
+        return Specification.allOf(hasStatus(status), titleStartsWith(title), dueOn(dueDate));
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // A case-insensitive prefix on the normalized column can use its index; a %title% LIKE cannot
+    public static Specification<Task> titleStartsWith(String title) {
+        return (root, query, cb) -> title == null
+                ? null
+                : cb.like(root.get("titleNormalized"), titlePrefix(title), '\\');
+    }
+
+    public static String titlePrefix(String title) {
+        return escapeLike(Task.normalizeTitle(title)) + "%";
+    }
+
+    public static Specification<Task> dueOn(LocalDate dueDate) {
+        return (root, query, cb) -> dueDate == null ? null : cb.equal(root.get("dueDate"), dueDate);
+    }
+
+    public static Specification<Task> idGreaterThan(Long afterId) {
+        return (root, query, cb) -> afterId == null ? null : cb.greaterThan(root.get("id"), afterId);
+    }
+
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
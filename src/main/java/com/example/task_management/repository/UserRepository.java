@@ -2,10 +2,50 @@ package com.example.task_management.repository;
 
 
 import com.example.task_management.model.User;
+import com.example.task_management.model.UserDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    boolean existsByEmail(String email);
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-}
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+    @Query("SELECT new com.example.task_management.model.UserDto(u.id, u.firstName, u.lastName) FROM User u")
+    Slice<UserDto> findSummaries(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.task_management.model.UserDto(u.id, u.firstName, u.lastName) FROM User u ORDER BY u.id")
+    Stream<UserDto> streamAllSummaries();
+
+    @Query("SELECT new com.example.task_management.model.UserDto(u.id, u.firstName, u.lastName) FROM User u WHERE u.id = :id")
+    Optional<UserDto> findSummaryById(Long id);
+
+    @Query("SELECT DISTINCT new com.example.task_management.model.UserDto(u.id, u.firstName, u.lastName) " +
+            "FROM Task t JOIN t.assignedUsers u " +
+            "WHERE (:taskId IS NULL OR t.id = :taskId) " +
+            "AND (:taskTitle IS NULL OR t.titleNormalized = LOWER(:taskTitle))")
+    List<UserDto> findSummariesByTask(Long taskId, String taskTitle);
 
+    @Query("SELECT COUNT(u) > 0 FROM User u " +
+            "WHERE (:userId IS NULL OR u.id = :userId) " +
+            "AND (:lastName IS NULL OR u.lastNameNormalized = LOWER(:lastName)) " +
+            "AND (:email IS NULL OR u.emailNormalized = LOWER(:email))")
+    boolean existsMatching(Long userId, String lastName, String email);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_user"))
+    @Query(value = "DELETE FROM task_user WHERE user_id = :userId", nativeQuery = true)
+    int deleteAssignmentsByUserId(Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteUserById(Long userId);
+}
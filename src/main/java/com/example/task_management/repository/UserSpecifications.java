@@ -0,0 +1,36 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.User;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> matching(String firstName, String lastName, String email) {
+        return Specification.allOf(firstNameContains(firstName), lastNameContains(lastName), emailEqualsIgnoreCase(email));
+    }
+
+    public static Specification<User> firstNameContains(String firstName) {
+        return (root, query, cb) -> firstName == null
+                ? null
+                : cb.like(root.get("firstName"), "%" + TaskSpecifications.escapeLike(firstName) + "%", '\\');
+    }
+
+    public static Specification<User> lastNameContains(String lastName) {
+        return (root, query, cb) -> lastName == null
+                ? null
+                : cb.like(root.get("lastName"), "%" + TaskSpecifications.escapeLike(lastName) + "%", '\\');
+    }
+
+    public static Specification<User> emailEqualsIgnoreCase(String email) {
+        return (root, query, cb) -> email == null
+                ? null
+                : cb.equal(root.get("emailNormalized"), User.normalizeEmail(email));
+    }
+
+    public static Specification<User> idGreaterThan(Long afterId) {
+        return (root, query, cb) -> afterId == null ? null : cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.task_management.search;
+
+import com.example.task_management.event.TaskEvent;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.StoredFields;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    // Commit user data key: "true" only in the commit written by close(), so a crash leaves it "false"
+    private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    // Set once an update was lost, so close() leaves the marker "false" and the next start rebuilds
+    private volatile boolean stale;
+
+    public TaskSearchIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                           @Value("${app.search.index-dir:}") String indexDir) throws IOException {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.directory = StringUtils.hasText(indexDir) ? FSDirectory.open(Path.of(indexDir)) : new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutOfSync() throws IOException {
+        // Matching counts alone miss lost updates: after a crash the index can hold the right number of
+        // documents with stale text, so only an index closed cleanly is trusted.
+        boolean cleanShutdown = "true".equals(commitData().get(CLEAN_SHUTDOWN));
+        long taskCount = taskRepository.count();
+        if (!cleanShutdown || writer.getDocStats().numDocs != taskCount) {
+            log.info("Rebuilding task search index for {} tasks (clean shutdown: {})", taskCount, cleanShutdown);
+            writer.deleteAll();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TaskDao> tasks = taskRepository.streamAllSummaries()) {
+                    tasks.forEach(this::index);
+                }
+            });
+        }
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, "false").entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> event.getTasks().forEach(this::index);
+                case DELETED -> writer.deleteDocuments(event.getTaskIds().stream().map(TaskSearchIndex::idTerm)
+                        .toArray(Term[]::new));
+                default -> {
+                    return;
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | UncheckedIOException e) {
+            stale = true;
+            log.error("Failed to update task search index for tasks {}, it will be rebuilt on the next start",
+                    event.getTaskIds(), e);
+        }
+    }
+
+    public List<Long> search(String text, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        // close() commits, so the marker lands in the final commit together with the last changes
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, String.valueOf(!stale)).entrySet());
+        writer.close();
+        directory.close();
+    }
+
+    private Map<String, String> commitData() {
+        Map<String, String> data = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        }
+        return data;
+    }
+
+    private void index(TaskDao task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.getId().toString(), Field.Store.YES));
+        if (task.getTitle() != null) {
+            document.add(new TextField(TITLE, task.getTitle(), Field.Store.NO));
+        }
+        if (task.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(idTerm(task.getId()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Every term must match somewhere; whole-word title matches rank above prefixes and description hits.
+    private Query buildQuery(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean hasTerms = false;
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute termAttribute = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                String term = termAttribute.toString();
+                Query termQuery = new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), 3f), BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), 2f), BooleanClause.Occur.SHOULD)
+                        .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                        .add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                        .build();
+                query.add(termQuery, BooleanClause.Occur.MUST);
+                hasTerms = true;
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasTerms ? query.build() : null;
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, id.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.task_management.service;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CacheStatisticsService {
+
+    public static final List<String> REGIONS = List.of(
+            Task.class.getName(),
+            Task.class.getName() + ".assignedUsers",
+            User.class.getName(),
+            "default-query-results-region");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public Map<String, Map<String, Long>> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Map<String, Long>> regions = new LinkedHashMap<>();
+
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            Map<String, Long> counters = new LinkedHashMap<>();
+            counters.put("hits", regionStatistics.getHitCount());
+            counters.put("misses", regionStatistics.getMissCount());
+            counters.put("puts", regionStatistics.getPutCount());
+            counters.put("evictions", getEvictionCount(region));
+            counters.put("size", regionStatistics.getElementCountInMemory());
+            regions.put(region, counters);
+        }
+
+        return regions;
+    }
+
+    public long getEvictionCount(String region) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long evictions = 0;
+        try {
+            for (ObjectName name : server.queryNames(new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null)) {
+                evictions += (Long) server.getAttribute(name, "CacheEvictions");
+            }
+        } catch (JMException e) {
+            return -1;
+        }
+        return evictions;
+    }
+}
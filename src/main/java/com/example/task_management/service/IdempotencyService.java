@@ -0,0 +1,82 @@
+package com.example.task_management.service;
+
+import com.example.task_management.model.IdempotencyRecord;
+import com.example.task_management.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final Duration ttl;
+    private final Cache<String, IdempotencyRecord> cache;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.max-entries:10000}") long maxEntries) {
+        this.recordRepository = recordRepository;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<IdempotencyRecord> find(String id) {
+        Instant now = Instant.now();
+        // The cache entry's own TTL starts when it is loaded, so a record read back from the table
+        // late in its life would outlive expiresAt without this check.
+        IdempotencyRecord cached = cache.getIfPresent(id);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(id);
+            return Optional.empty();
+        }
+
+        Optional<IdempotencyRecord> stored = recordRepository.findById(id)
+                .filter(record -> !record.isExpired(now));
+        stored.ifPresent(record -> cache.put(id, record));
+        return stored;
+    }
+
+    public boolean tryStart(String id) {
+        return inFlight.add(id);
+    }
+
+    public void finish(String id) {
+        inFlight.remove(id);
+    }
+
+    public void save(IdempotencyRecord record) {
+        record.setExpiresAt(Instant.now().plus(ttl));
+        recordRepository.save(record);
+        cache.put(record.getId(), record);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = recordRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+    }
+}
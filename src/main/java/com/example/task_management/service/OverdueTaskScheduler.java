@@ -0,0 +1,215 @@
+package com.example.task_management.service;
+
+import com.example.task_management.event.TaskEvent;
+import com.example.task_management.index.HotIndex;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+@Service
+public class OverdueTaskScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueTaskScheduler.class);
+
+    private final TaskRepository taskRepository;
+    private final HotIndex hotIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonDays;
+    private final int batchSize;
+
+    // Queue entries are never removed eagerly; an entry is live only while it matches dueDates.
+    // compactQueue() drops the dead ones once they outnumber the live ones.
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+            Comparator.comparing(Entry::dueDate).thenComparing(Entry::taskId));
+    private final Map<Long, LocalDate> dueDates = new HashMap<>();
+    private LocalDate loadedThrough;
+
+    public OverdueTaskScheduler(TaskRepository taskRepository, HotIndex hotIndex,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.overdue.horizon-days:7}") int horizonDays,
+                                @Value("${app.overdue.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.hotIndex = hotIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDate today = LocalDate.now();
+        // Starts at the oldest active due date, so tasks that became overdue while the app was down fire once now
+        LocalDate from = taskRepository.findEarliestDueDate(TaskStatus.ACTIVE)
+                .filter(earliest -> earliest.isBefore(today))
+                .orElse(today);
+        synchronized (this) {
+            loadedThrough = from.minusDays(1);
+        }
+        extendHorizon(today);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskEvent(TaskEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> event.getTasks().forEach(this::track);
+            case STATUS_CHANGED -> {
+                if (event.getStatus().isActive()) {
+                    trackActivated(event.getTaskIds(), event.getStatus());
+                } else {
+                    untrack(event.getTaskIds());
+                }
+            }
+            case DELETED -> untrack(event.getTaskIds());
+            default -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.overdue.check-interval-ms:60000}")
+    public void fireOverdue() {
+        LocalDate today = LocalDate.now();
+        extendHorizon(today);
+
+        List<Long> batch;
+        while (!(batch = pollOverdue(today)).isEmpty()) {
+            // The index can lag behind writes made outside TaskService, so confirm against the table.
+            List<TaskDao> overdue = taskRepository.findSummariesByIdIn(batch).stream()
+                    .filter(task -> task.getStatus().isActive() && task.getDueDate() != null
+                            && task.getDueDate().isBefore(today))
+                    .toList();
+            if (!overdue.isEmpty()) {
+                eventPublisher.publishEvent(TaskEvent.overdue(overdue));
+                log.info("Marked {} tasks overdue", overdue.size());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return dueDates.size();
+    }
+
+    private void extendHorizon(LocalDate today) {
+        LocalDate from;
+        LocalDate to = today.plusDays(horizonDays);
+        synchronized (this) {
+            if (loadedThrough == null || !loadedThrough.isBefore(to)) {
+                return;
+            }
+            from = loadedThrough.plusDays(1);
+        }
+
+        List<TaskDao> tasks = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskDao> due = taskRepository.streamDueBetween(from, to, TaskStatus.ACTIVE)) {
+                due.forEach(tasks::add);
+            }
+        });
+
+        synchronized (this) {
+            loadedThrough = to;
+            tasks.forEach(this::track);
+        }
+        log.debug("Loaded {} tasks due between {} and {}", tasks.size(), from, to);
+    }
+
+    // A status change never moves the due date, so tasks that are already tracked need nothing and
+    // the others take their due date from the hot index; only a cold index falls back to a query.
+    private void trackActivated(List<Long> taskIds, TaskStatus status) {
+        List<Long> untracked;
+        synchronized (this) {
+            untracked = taskIds.stream().filter(id -> !dueDates.containsKey(id)).toList();
+        }
+        if (untracked.isEmpty()) {
+            return;
+        }
+        List<TaskDao> tasks = hotIndex.isReady()
+                ? hotIndex.findTasks(untracked)
+                : taskRepository.findSummariesByIdIn(untracked);
+        tasks.forEach(task -> track(task.getId(), task.getDueDate(), status));
+    }
+
+    private void track(TaskDao task) {
+        track(task.getId(), task.getDueDate(), task.getStatus());
+    }
+
+    private synchronized void track(Long taskId, LocalDate dueDate, TaskStatus status) {
+        if (dueDate == null || status == null || !status.isActive()
+                || loadedThrough == null || dueDate.isAfter(loadedThrough)) {
+            // Tasks beyond the horizon are picked up by the range query once it moves past them.
+            dueDates.remove(taskId);
+            return;
+        }
+        if (!dueDate.equals(dueDates.put(taskId, dueDate))) {
+            queue.add(new Entry(taskId, dueDate));
+            compactQueue();
+        }
+    }
+
+    private synchronized void untrack(List<Long> taskIds) {
+        taskIds.forEach(dueDates::remove);
+        compactQueue();
+    }
+
+    // Tasks that flip between active and inactive statuses leave a dead entry behind on every flip.
+    // Rebuilding from dueDates is linear but only runs after as many dead entries as live ones.
+    private void compactQueue() {
+        if (queue.size() <= 2 * dueDates.size() + batchSize) {
+            return;
+        }
+        queue.clear();
+        dueDates.forEach((taskId, dueDate) -> queue.add(new Entry(taskId, dueDate)));
+    }
+
+    private synchronized List<Long> pollOverdue(LocalDate today) {
+        List<Long> batch = new ArrayList<>();
+        while (batch.size() < batchSize && !queue.isEmpty() && queue.peek().dueDate().isBefore(today)) {
+            Entry entry = queue.poll();
+            if (dueDates.remove(entry.taskId(), entry.dueDate())) {
+                batch.add(entry.taskId());
+            }
+        }
+        return batch;
+    }
+
+    private static final class Entry {
+        private final Long taskId;
+        private final LocalDate dueDate;
+
+        private Entry(Long taskId, LocalDate dueDate) {
+            this.taskId = taskId;
+            this.dueDate = dueDate;
+        }
+
+        private Long taskId() {
+            return taskId;
+        }
+
+        private LocalDate dueDate() {
+            return dueDate;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.task_management.service;
+
+import com.example.task_management.model.TaskStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class StatusWriteBehindLog {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusWriteBehindLog.class);
+    private static final String TOMBSTONE = "-";
+
+    private final boolean enabled;
+    private final boolean fsync;
+    private final int batchSize;
+    private final Path file;
+    private final Map<Long, Pending> pending = new HashMap<>();
+    // Claimed by a flush whose transaction has not finished yet
+    private final Set<Long> inFlight = new HashSet<>();
+    // A ReentrantLock rather than synchronized, so file IO does not pin virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushFinished = lock.newCondition();
+    // Group commit: one appender forces the file for every line written before it started, while the
+    // others wait here and usually find their line already synced. Taken after lock, never before it.
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile FileChannel channel;
+    private volatile long sequence;
+    private long syncedSequence;
+    private long fileLines;
+
+    public StatusWriteBehindLog(@Value("${app.status.write-behind.enabled:false}") boolean enabled,
+                                @Value("${app.status.write-behind.log-file:./data/status-write-behind.log}") String logFile,
+                                @Value("${app.status.write-behind.fsync:true}") boolean fsync,
+                                @Value("${app.status.write-behind.batch-size:500}") int batchSize) throws IOException {
+        this.enabled = enabled;
+        this.fsync = fsync;
+        this.batchSize = batchSize;
+        this.file = Path.of(logFile);
+        if (enabled) {
+            recover();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Returns once the change is on stable storage, unless fsync is off
+    public long append(Long taskId, TaskStatus status) {
+        long appended;
+        lock.lock();
+        try {
+            appended = write(taskId, status.name());
+            pending.put(taskId, new Pending(status, appended));
+        } finally {
+            lock.unlock();
+        }
+        sync(appended);
+        return appended;
+    }
+
+    // Drops pending changes for tasks that are about to be written or deleted directly. A change that a
+    // flush is writing right now is waited for, so the flush cannot land after the direct write.
+    public void discard(Collection<Long> taskIds) {
+        if (!enabled) {
+            return;
+        }
+        long written = 0;
+        lock.lock();
+        try {
+            while (taskIds.stream().anyMatch(inFlight::contains)) {
+                flushFinished.awaitUninterruptibly();
+            }
+            for (Long taskId : taskIds) {
+                if (pending.remove(taskId) != null) {
+                    written = write(taskId, TOMBSTONE);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        // A lost tombstone would replay the discarded change over the direct write after a crash
+        sync(written);
+    }
+
+    public Optional<Pending> pending(Long taskId) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(pending.get(taskId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<TaskStatus> pendingStatus(Long taskId) {
+        return pending(taskId).map(Pending::getStatus);
+    }
+
+    public Map<Long, Pending> snapshot() {
+        lock.lock();
+        try {
+            return new HashMap<>(pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Marks the changes that are still current as being flushed; discard waits for them until acknowledge or release.
+    public Map<Long, Pending> claim(Map<Long, Pending> changes) {
+        lock.lock();
+        try {
+            Map<Long, Pending> claimed = new HashMap<>();
+            changes.forEach((taskId, change) -> {
+                if (pending.get(taskId) == change && inFlight.add(taskId)) {
+                    claimed.put(taskId, change);
+                }
+            });
+            return claimed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Forgets flushed changes unless the task changed again meanwhile, then shrinks the log to what is left.
+    public void acknowledge(Map<Long, Pending> flushed) {
+        lock.lock();
+        try {
+            flushed.forEach(pending::remove);
+            finishFlush(flushed);
+            if (fileLines > Math.max(batchSize, 2L * pending.size())) {
+                checkpoint();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Keeps the changes of a failed flush pending for the next attempt.
+    public void release(Map<Long, Pending> claimed) {
+        lock.lock();
+        try {
+            finishFlush(claimed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        syncLock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            syncLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    private void finishFlush(Map<Long, Pending> claimed) {
+        inFlight.removeAll(claimed.keySet());
+        flushFinished.signalAll();
+    }
+
+    private long write(Long taskId, String value) {
+        long next = sequence + 1;
+        byte[] line = (next + " " + taskId + " " + value + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            channel.write(ByteBuffer.wrap(line));
+            fileLines++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to status write-behind log " + file, e);
+        }
+        sequence = next;
+        return next;
+    }
+
+    private void sync(long upTo) {
+        if (!fsync || upTo == 0) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (syncedSequence >= upTo) {
+                return;
+            }
+            // Everything written so far is covered, including lines appended while this thread waited
+            long written = sequence;
+            channel.force(false);
+            syncedSequence = written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync status write-behind log " + file, e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    replay(line);
+                }
+            }
+            log.info("Recovered {} pending status changes from {}", pending.size(), file);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        checkpoint();
+    }
+
+    private void replay(String line) {
+        String[] parts = line.split(" ");
+        try {
+            long lineSequence = Long.parseLong(parts[0]);
+            Long taskId = Long.valueOf(parts[1]);
+            if (TOMBSTONE.equals(parts[2])) {
+                pending.remove(taskId);
+            } else {
+                pending.put(taskId, new Pending(TaskStatus.valueOf(parts[2]), lineSequence));
+            }
+            sequence = Math.max(sequence, lineSequence);
+        } catch (RuntimeException e) {
+            // A torn final line is expected after a crash mid-append.
+            log.warn("Skipping unreadable line in status write-behind log {}", file);
+        }
+    }
+
+    private void checkpoint() {
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        StringBuilder lines = new StringBuilder();
+        pending.forEach((taskId, change) ->
+                lines.append(change.sequence).append(' ').append(taskId).append(' ').append(change.status.name()).append('\n'));
+        // Holds off syncs while the channel is swapped; the compacted file is forced before it replaces the log
+        syncLock.lock();
+        try {
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8)));
+                if (fsync) {
+                    out.force(false);
+                }
+            }
+            channel.close();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            fileLines = pending.size();
+            syncedSequence = sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact status write-behind log " + file, e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public static final class Pending {
+        private final TaskStatus status;
+        private final long sequence;
+
+        private Pending(TaskStatus status, long sequence) {
+            this.status = status;
+            this.sequence = sequence;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+    }
+}
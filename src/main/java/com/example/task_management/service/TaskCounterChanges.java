@@ -0,0 +1,73 @@
+package com.example.task_management.service;
+
+import com.example.task_management.model.AssigneeCount;
+import com.example.task_management.model.TaskBucketCount;
+import com.example.task_management.model.TaskCounter;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TaskCounterChanges {
+
+    private final Map<String, Delta> deltas = new LinkedHashMap<>();
+
+    public TaskCounterChanges task(TaskStatus status, LocalDate dueDate, long delta) {
+        if (status != null) {
+            add(TaskCounter.Kind.STATUS, status.name(), delta);
+        }
+        // Only unfinished tasks can become overdue, so only they are counted by due date.
+        if (dueDate != null && status != null && status.isActive()) {
+            add(TaskCounter.Kind.DUE_DATE, dueDate.toString(), delta);
+        }
+        return this;
+    }
+
+    public TaskCounterChanges task(TaskDao task, long delta) {
+        return task(task.getStatus(), task.getDueDate(), delta);
+    }
+
+    public TaskCounterChanges buckets(Collection<TaskBucketCount> buckets, long sign) {
+        buckets.forEach(bucket -> task(bucket.getStatus(), bucket.getDueDate(), sign * bucket.getCount()));
+        return this;
+    }
+
+    public TaskCounterChanges assignee(Long userId, long delta) {
+        add(TaskCounter.Kind.ASSIGNEE, userId.toString(), delta);
+        return this;
+    }
+
+    public TaskCounterChanges assignees(Collection<AssigneeCount> counts, long sign) {
+        counts.forEach(count -> assignee(count.getUserId(), sign * count.getCount()));
+        return this;
+    }
+
+    public TaskCounterChanges counter(TaskCounter counter, long sign) {
+        add(counter.getKind(), counter.getBucket(), sign * counter.getCount());
+        return this;
+    }
+
+    Collection<Delta> deltas() {
+        return deltas.values();
+    }
+
+    private void add(TaskCounter.Kind kind, String bucket, long delta) {
+        deltas.computeIfAbsent(TaskCounter.idOf(kind, bucket), id -> new Delta(id, kind, bucket)).amount += delta;
+    }
+
+    static final class Delta {
+        final String id;
+        final TaskCounter.Kind kind;
+        final String bucket;
+        long amount;
+
+        private Delta(String id, TaskCounter.Kind kind, String bucket) {
+            this.id = id;
+            this.kind = kind;
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.task_management.service;
+
+import com.example.task_management.model.TaskCounter;
+import com.example.task_management.model.TaskStats;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskCounterRepository;
+import com.example.task_management.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class TaskCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterService.class);
+
+    private final TaskCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskCounterService(TaskCounterRepository counterRepository, TaskRepository taskRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.taskRepository = taskRepository;
+        // Not read-only, so replica routing keeps it on the primary whose counters it corrects
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TaskCounterChanges changes) {
+        for (TaskCounterChanges.Delta delta : changes.deltas()) {
+            if (delta.amount != 0) {
+                counterRepository.increment(delta.id, delta.kind.name(), delta.bucket, delta.amount);
+            }
+            // Empty buckets would pile up forever, e.g. one DUE_DATE row for every past date
+            if (delta.amount < 0) {
+                counterRepository.deleteIfZero(delta.id);
+            }
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void userDeleted(Long userId) {
+        counterRepository.deleteCounterById(TaskCounter.idOf(TaskCounter.Kind.ASSIGNEE, userId.toString()));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskStats getStats() {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        counterRepository.findByKind(TaskCounter.Kind.STATUS)
+                .forEach(counter -> byStatus.put(TaskStatus.valueOf(counter.getBucket()), counter.getCount()));
+
+        Map<LocalDate, Long> overdueByDueDate = new TreeMap<>();
+        long overdue = 0;
+        for (TaskCounter counter : counterRepository.findByKindAndBucketLessThan(
+                TaskCounter.Kind.DUE_DATE, LocalDate.now().toString())) {
+            if (counter.getCount() > 0) {
+                overdueByDueDate.put(LocalDate.parse(counter.getBucket()), counter.getCount());
+                overdue += counter.getCount();
+            }
+        }
+
+        Map<Long, Long> byAssignee = new TreeMap<>();
+        counterRepository.findByKind(TaskCounter.Kind.ASSIGNEE).stream()
+                .filter(counter -> counter.getCount() > 0)
+                .forEach(counter -> byAssignee.put(Long.valueOf(counter.getBucket()), counter.getCount()));
+
+        return new TaskStats(byStatus, overdue, overdueByDueDate, byAssignee);
+    }
+
+    // Counters are kept up to date by every write, so startup only seeds an empty table
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (counterRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    // Tasks and counters are read from one snapshot, so a write committed after it is in neither and
+    // the difference is exactly the drift. It is applied as increments, which commute with concurrent writers.
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+        TaskCounterChanges drift = snapshotTemplate.execute(status -> {
+            TaskCounterChanges changes = new TaskCounterChanges()
+                    .buckets(taskRepository.countAllBuckets(), 1)
+                    .assignees(taskRepository.countAllAssignees(), 1);
+            counterRepository.findAll().forEach(counter -> changes.counter(counter, -1));
+            return changes;
+        });
+
+        long corrected = drift.deltas().stream().filter(delta -> delta.amount != 0).count();
+        transactionTemplate.executeWithoutResult(status -> {
+            apply(drift);
+            // Also removes empty rows left behind before apply started pruning them
+            drift.deltas().stream().filter(delta -> delta.amount == 0)
+                    .forEach(delta -> counterRepository.deleteIfZero(delta.id));
+        });
+        log.info("Reconciled task counters: {} of {} buckets corrected", corrected, drift.deltas().size());
+    }
+}
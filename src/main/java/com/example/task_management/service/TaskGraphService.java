@@ -0,0 +1,139 @@
+package com.example.task_management.service;
+
+import com.example.task_management.event.TaskEvent;
+import com.example.task_management.exception.AppException;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskNode;
+import com.example.task_management.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "task.graph.service", description = "Service method invocations", histogram = true)
+public class TaskGraphService {
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskGraphService(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskNode> findSubtree(Long taskId) {
+        requireTask(taskId);
+        return nodes(taskRepository.findSubtreeIds(taskId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskNode> findAncestors(Long taskId) {
+        requireTask(taskId);
+        return nodes(taskRepository.findAncestorIds(taskId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskNode> findBlockers(Long taskId) {
+        requireTask(taskId);
+        return nodes(taskRepository.findBlockerIds(taskId));
+    }
+
+    public TaskNode setParent(Long taskId, Long parentId) {
+        return mutate(() -> {
+            Task task = loadTask(taskId);
+            if (parentId != null) {
+                if (!taskRepository.existsById(parentId)) {
+                    throw new AppException("Parent task not found", "TASK_NOT_FOUND", HttpStatus.BAD_REQUEST);
+                }
+                if (taskRepository.countInParentChain(parentId, taskId) > 0) {
+                    throw AppException.dependencyCycle(taskId);
+                }
+            }
+            // An entity update refreshes only this task in the second-level cache
+            task.setParentId(parentId);
+            publishUpdated(task);
+            return taskRepository.findNodesByIdIn(List.of(taskId)).getFirst();
+        });
+    }
+
+    public void addBlockers(Long taskId, Set<Long> blockedByIds) {
+        mutate(() -> {
+            Task task = loadTask(taskId);
+            if (blockedByIds.isEmpty()) {
+                return null;
+            }
+            if (taskRepository.countByIdIn(blockedByIds) != blockedByIds.size()) {
+                throw new AppException("Some blocking tasks were not found", "TASK_NOT_FOUND", HttpStatus.BAD_REQUEST);
+            }
+            if (taskRepository.countReachableBlockers(blockedByIds, taskId) > 0) {
+                throw AppException.dependencyCycle(taskId);
+            }
+            taskRepository.addDependencies(taskId, blockedByIds);
+            publishUpdated(task);
+            return null;
+        });
+    }
+
+    // Removing edges cannot create a cycle, so this skips the mutation lock
+    @Transactional
+    public void removeBlockers(Long taskId, Set<Long> blockedByIds) {
+        Task task = loadTask(taskId);
+        if (!blockedByIds.isEmpty()) {
+            taskRepository.removeDependencies(taskId, blockedByIds);
+            publishUpdated(task);
+        }
+    }
+
+    // Two edges that are each fine on their own can close a cycle together, so mutations take a row lock
+    // that is held until commit. Every cycle check then sees the edges committed before it, also when
+    // several application instances share the database.
+    private <T> T mutate(Supplier<T> mutation) {
+        return transactionTemplate.execute(status -> {
+            taskRepository.lockGraph();
+            return mutation.get();
+        });
+    }
+
+    private Task loadTask(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> AppException.taskNotFound(taskId));
+    }
+
+    // Lets change feed subscribers see hierarchy and dependency changes too
+    private void publishUpdated(Task task) {
+        eventPublisher.publishEvent(TaskEvent.updated(TaskDao.from(task)));
+    }
+
+    private void requireTask(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw AppException.taskNotFound(taskId);
+        }
+    }
+
+    // One IN query for the whole result, then restore the order the recursive query produced
+    private List<TaskNode> nodes(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskNode> nodes = taskRepository.findNodesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskNode::getId, Function.identity()));
+        return ids.stream().map(nodes::get).filter(Objects::nonNull).toList();
+    }
+}
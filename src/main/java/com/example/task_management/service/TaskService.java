@@ -1,62 +1,260 @@
 package com.example.task_management.service;
 
+import com.example.task_management.event.TaskEvent;
 import com.example.task_management.exception.AppException;
+import com.example.task_management.index.HotIndex;
+import com.example.task_management.model.BulkDeleteRequest;
+import com.example.task_management.model.BulkDeleteResult;
+import com.example.task_management.model.BulkItemResult;
+import com.example.task_management.model.BulkStatusRequest;
+import com.example.task_management.model.BulkStatusResult;
 import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskBucketCount;
+import com.example.task_management.model.TaskDao;
+import com.example.task_management.model.TaskStats;
 import com.example.task_management.model.TaskStatus;
 import com.example.task_management.model.User;
+import com.example.task_management.model.UserDto;
 import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.TaskSpecifications;
 import com.example.task_management.repository.UserRepository;
+import com.example.task_management.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "task.service", description = "Service method invocations", histogram = true)
 public class TaskService {
+    private static final int BULK_BATCH_SIZE = 50;
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     @PersistenceContext
     private EntityManager entityManager;
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex searchIndex;
+    private final TaskCounterService counterService;
+    private final StatusWriteBehindLog statusLog;
+    private final HotIndex hotIndex;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository, Validator validator,
+                       PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                       TaskSearchIndex searchIndex, TaskCounterService counterService,
+                       StatusWriteBehindLog statusLog, HotIndex hotIndex) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.searchIndex = searchIndex;
+        this.counterService = counterService;
+        this.statusLog = statusLog;
+        this.hotIndex = hotIndex;
     }
 
+    @Transactional(readOnly = true)
     public List<Task> findAllTasks() {
         return taskRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Slice<Task> findTasks(TaskStatus status, String title, LocalDate dueDate, Pageable pageable) {
+        String titlePrefix = title == null ? null : TaskSpecifications.titlePrefix(title);
+        return taskRepository.findSlice(status, titlePrefix, dueDate, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskDao> findTaskSummaries(TaskStatus status, String title, LocalDate dueDate, Pageable pageable) {
+        String titlePrefix = title == null ? null : TaskSpecifications.titlePrefix(title);
+        return taskRepository.findSummaries(status, titlePrefix, dueDate, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDao> searchTasks(String query, int limit) {
+        List<Long> ids = searchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (hotIndex.isReady()) {
+            return hotIndex.findTasks(ids);
+        }
+        Map<Long, TaskDao> tasks = taskRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskDao::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+    }
+
+    public TaskStats getStats() {
+        return counterService.getStats();
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserDto> findUsersByTask(Long taskId, String taskTitle) {
+        return userRepository.findSummariesByTask(taskId, taskTitle);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> findTasksAfter(TaskStatus status, String title, LocalDate dueDate, Long afterId, int limit) {
+        return taskRepository.findBy(
+                TaskSpecifications.matching(status, title, dueDate).and(TaskSpecifications.idGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<TaskDao> sink) {
+        try (Stream<TaskDao> tasks = taskRepository.streamAllSummaries()) {
+            tasks.forEach(sink);
+        }
+    }
+
+    @Transactional
     public Task addTask(Task task) {
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        TaskCounterChanges changes = new TaskCounterChanges().task(TaskDao.from(savedTask), 1);
+        assigneeIds(savedTask).forEach(userId -> changes.assignee(userId, 1));
+        counterService.apply(changes);
+        eventPublisher.publishEvent(TaskEvent.created(List.of(TaskDao.from(savedTask))));
+        return savedTask;
+    }
+
+    @Transactional
+    public List<BulkItemResult> addTasks(Iterator<Task> tasks) {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<TaskDao> batch = new ArrayList<>();
+        int index = 0;
+
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            Map<String, String> errors = validate(task);
+
+            if (!errors.isEmpty()) {
+                results.add(BulkItemResult.invalid(index++, errors));
+                continue;
+            }
+
+            task.setId(null);
+            task.setVersion(null);
+            task.setAssignedUsers(new HashSet<>());
+            entityManager.persist(task);
+            results.add(BulkItemResult.created(index++, task.getId()));
+            batch.add(TaskDao.from(task));
+
+            if (batch.size() == BULK_BATCH_SIZE) {
+                entityManager.flush();
+                entityManager.clear();
+                publishCreated(batch);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            publishCreated(batch);
+        }
+        return results;
+    }
+
+    // One event per flushed batch keeps each change-feed entry small however large the import is
+    private void publishCreated(List<TaskDao> batch) {
+        TaskCounterChanges changes = new TaskCounterChanges();
+        batch.forEach(task -> changes.task(task, 1));
+        counterService.apply(changes);
+        eventPublisher.publishEvent(TaskEvent.created(batch));
+    }
+
+    private Map<String, String> validate(Task task) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (task == null) {
+            errors.put("task", "Task cannot be null");
+            return errors;
+        }
+        for (ConstraintViolation<Task> violation : validator.validate(task)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
     }
 
     @Transactional(readOnly = true)
     public Task findTaskById(Long taskId) {
-        return taskRepository.findByIdWithUsers(taskId)
+        Task task = taskRepository.findByIdWithUsers(taskId)
                 .orElseThrow(() -> new AppException("Task not found", "TASK_NOT_FOUND", HttpStatus.NOT_FOUND));
+        statusLog.pending(taskId).ifPresent(change -> {
+            task.setStatus(change.getStatus());
+            task.setPendingSequence(change.getSequence());
+        });
+        return task;
     }
 
-    public Task updateTask(Long taskId, Task updatedTask) {
+    public TaskDao findTaskSummary(Long taskId) {
+        TaskDao task = (hotIndex.isReady()
+                ? hotIndex.findTask(taskId)
+                : taskRepository.findSummariesByIdIn(List.of(taskId)).stream().findFirst())
+                .orElseThrow(() -> AppException.taskNotFound(taskId));
+        Optional<TaskStatus> pendingStatus = statusLog.pendingStatus(taskId);
+        return pendingStatus.isEmpty()
+                ? task
+                : new TaskDao(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(), pendingStatus.get());
+    }
+
+    @Transactional
+    public Task updateTask(Long taskId, Task updatedTask, Long expectedVersion, Long expectedPendingSequence) {
+        // Read before findTaskById, which overlays the pending write-behind status that the counters
+        // have not seen yet; a query after it would auto-flush that overlay first.
+        List<TaskBucketCount> before = taskRepository.countBuckets(List.of(taskId));
         Task task = findTaskById(taskId);
+        checkVersion(task, expectedVersion, expectedPendingSequence);
 
         task.setTitle(updatedTask.getTitle());
         task.setDescription(updatedTask.getDescription());
         task.setStatus(updatedTask.getStatus());
         task.setDueDate(updatedTask.getDueDate());
 
-        return taskRepository.save(task);
+        return saveUpdated(task, before);
     }
 
-    public Task patchTask(Long taskId, Task partialUpdate) {
+    @Transactional
+    public Task patchTask(Long taskId, Task partialUpdate, Long expectedVersion, Long expectedPendingSequence) {
+        List<TaskBucketCount> before = taskRepository.countBuckets(List.of(taskId));
         Task task = findTaskById(taskId);
+        checkVersion(task, expectedVersion, expectedPendingSequence);
 
         if (StringUtils.hasText(partialUpdate.getTitle())) {
             task.setTitle(partialUpdate.getTitle());
@@ -74,47 +272,325 @@ public class TaskService {
             task.setDueDate(partialUpdate.getDueDate());
         }
 
-        return taskRepository.save(task);
+        return saveUpdated(task, before);
+    }
+
+    private Task saveUpdated(Task task, List<TaskBucketCount> before) {
+        statusLog.discard(List.of(task.getId()));
+        task.setPendingSequence(null);
+        Task savedTask = taskRepository.save(task);
+        TaskDao after = TaskDao.from(savedTask);
+        counterService.apply(new TaskCounterChanges().buckets(before, -1).task(after, 1));
+        eventPublisher.publishEvent(TaskEvent.updated(after));
+        return savedTask;
+    }
+
+    // A pending write-behind change leaves the version alone, so the If-Match tag must name it too.
+    private void checkVersion(Task task, Long expectedVersion, Long expectedPendingSequence) {
+        if (expectedVersion != null && (!expectedVersion.equals(task.getVersion())
+                || !Objects.equals(expectedPendingSequence, task.getPendingSequence()))) {
+            throw AppException.versionMismatch("Task", task.getId());
+        }
     }
 
     @Transactional
     public void deleteTask(Long taskId) {
+        statusLog.discard(List.of(taskId));
+        TaskCounterChanges changes = removedTaskCounts(List.of(taskId));
+        taskRepository.deleteDependenciesByTaskIdIn(List.of(taskId));
+        // Bulk HQL evicts the whole Task cache region, so it only runs when there are children to detach
+        if (taskRepository.existsByParentId(taskId)) {
+            taskRepository.detachChildren(List.of(taskId));
+        }
+
+        // Removing the entity evicts just this task, and Hibernate deletes its task_user rows
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> AppException.taskNotFound(taskId));
+        taskRepository.delete(task);
+        counterService.apply(changes);
+        eventPublisher.publishEvent(TaskEvent.deleted(List.of(taskId)));
+    }
+
+    public BulkDeleteResult deleteTasks(BulkDeleteRequest request) {
+        if (!request.hasIds() && !request.hasFilter()) {
+            throw AppException.invalidRequest("Either task IDs or a filter must be provided");
+        }
+
+        int deleted = 0;
+
+        if (request.hasIds()) {
+            List<Long> ids = request.getIds();
+            for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+                deleted += deleteChunk(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+            }
+            return new BulkDeleteResult(deleted);
+        }
 
-        task.getAssignedUsers().forEach(user -> user.getTasks().remove(task));
+        LocalDate dueBefore = request.getOlderThanDays() == null
+                ? null
+                : LocalDate.now().minusDays(request.getOlderThanDays());
+        Pageable firstChunk = PageRequest.of(0, DELETE_CHUNK_SIZE);
 
-        taskRepository.deleteById(taskId);
+        while (true) {
+            List<Long> ids = taskRepository.findIdsForDeletion(request.getStatus(), dueBefore, firstChunk);
+            if (!ids.isEmpty()) {
+                deleted += deleteChunk(ids);
+            }
+            if (ids.size() < DELETE_CHUNK_SIZE) {
+                return new BulkDeleteResult(deleted);
+            }
+        }
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            statusLog.discard(ids);
+            TaskCounterChanges changes = removedTaskCounts(ids);
+            taskRepository.deleteAssignmentsByTaskIdIn(ids);
+            taskRepository.deleteDependenciesByTaskIdIn(ids);
+            taskRepository.detachChildren(ids);
+            int count = taskRepository.deleteTasksByIdIn(ids);
+            counterService.apply(changes);
+            eventPublisher.publishEvent(TaskEvent.deleted(List.copyOf(ids)));
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private TaskCounterChanges removedTaskCounts(Collection<Long> ids) {
+        return new TaskCounterChanges()
+                .buckets(taskRepository.countBuckets(ids), -1)
+                .assignees(taskRepository.countAssignees(ids), -1);
     }
 
     @Transactional
     public Task assignUsersToTask(Long taskId, Set<Long> userIds) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new AppException("Task with ID " + taskId + " not found", "TASK_NOT_FOUND", HttpStatus.NOT_FOUND));
+        Task task = findTaskWithUsers(taskId);
+        Set<Long> before = assigneeIds(task);
 
-        Set<User> users = new HashSet<>(userRepository.findAllById(userIds));
+        task.getAssignedUsers().removeIf(user -> !userIds.contains(user.getId()));
+        addAssignees(task, loadUsers(missingAssignees(task, userIds)).values());
+
+        assigneesChanged(task, before);
+        return task;
+    }
+
+    @Transactional
+    public Task addUsersToTask(Long taskId, Set<Long> userIds) {
+        Task task = findTaskWithUsers(taskId);
+        Set<Long> before = assigneeIds(task);
+
+        addAssignees(task, loadUsers(missingAssignees(task, userIds)).values());
+
+        assigneesChanged(task, before);
+        return task;
+    }
+
+    @Transactional
+    public Task removeUsersFromTask(Long taskId, Set<Long> userIds) {
+        Task task = findTaskWithUsers(taskId);
+        Set<Long> before = assigneeIds(task);
+
+        task.getAssignedUsers().removeIf(user -> userIds.contains(user.getId()));
+
+        assigneesChanged(task, before);
+        return task;
+    }
+
+    @Transactional
+    public int assignUsersToTasks(Set<Long> taskIds, Set<Long> userIds) {
+        Map<Long, User> users = userReferences(userIds);
+        List<Task> tasks = taskRepository.findWithUsersByIdIn(taskIds);
+
+        if (tasks.size() != taskIds.size()) {
+            throw new AppException("Some tasks were not found", "TASK_NOT_FOUND", HttpStatus.BAD_REQUEST);
+        }
+
+        for (Task task : tasks) {
+            Set<Long> before = assigneeIds(task);
+            task.getAssignedUsers().removeIf(user -> !userIds.contains(user.getId()));
+            addAssignees(task, missingAssignees(task, userIds).stream().map(users::get).toList());
+            assigneesChanged(task, before);
+        }
+
+        return tasks.size();
+    }
+
+    private Task findTaskWithUsers(Long taskId) {
+        return taskRepository.findByIdWithUsers(taskId)
+                .orElseThrow(() -> AppException.taskNotFound(taskId));
+    }
+
+    private Set<Long> missingAssignees(Task task, Set<Long> userIds) {
+        Set<Long> missing = new HashSet<>(userIds);
+        task.getAssignedUsers().forEach(user -> missing.remove(user.getId()));
+        return missing;
+    }
+
+    private Map<Long, User> loadUsers(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (hotIndex.isReady() && !hotIndex.containsAllUsers(userIds)) {
+            throw new AppException("Some users were not found", "USER_NOT_FOUND", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
         if (users.size() != userIds.size()) {
             throw new AppException("Some users were not found", "USER_NOT_FOUND", HttpStatus.BAD_REQUEST);
         }
 
-        task.setAssignedUsers(users);
-        users.forEach(user -> user.getTasks().add(task));
+        return users;
+    }
 
-        taskRepository.save(task);
-        taskRepository.flush();
-        entityManager.refresh(task);
+    // Only ids are needed to write join rows, so users known to the hot index become proxies without a SELECT.
+    private Map<Long, User> userReferences(Set<Long> userIds) {
+        if (!hotIndex.isReady()) {
+            return loadUsers(userIds);
+        }
+        if (!hotIndex.containsAllUsers(userIds)) {
+            throw new AppException("Some users were not found", "USER_NOT_FOUND", HttpStatus.BAD_REQUEST);
+        }
+        return userIds.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> entityManager.getReference(User.class, id)));
+    }
 
-        return task;
+    private void addAssignees(Task task, Collection<User> users) {
+        task.getAssignedUsers().addAll(users);
+    }
+
+    private Set<Long> assigneeIds(Task task) {
+        return task.getAssignedUsers().stream().map(User::getId).collect(Collectors.toSet());
+    }
+
+    private void assigneesChanged(Task task, Set<Long> before) {
+        Set<Long> after = assigneeIds(task);
+        TaskCounterChanges changes = new TaskCounterChanges();
+        before.stream().filter(userId -> !after.contains(userId)).forEach(userId -> changes.assignee(userId, -1));
+        after.stream().filter(userId -> !before.contains(userId)).forEach(userId -> changes.assignee(userId, 1));
+        counterService.apply(changes);
+        eventPublisher.publishEvent(TaskEvent.assigned(task.getId(), after));
     }
 
     @Transactional
     public Task updateTaskStatus(Long id, TaskStatus status) {
+        if (status == null) {
+            throw AppException.invalidRequest("Task status cannot be null");
+        }
+        if (statusLog.isEnabled()) {
+            return enqueueStatus(id, status);
+        }
+        // An entity update refreshes only this task in the second-level cache, where bulk HQL would
+        // evict the whole region on the hottest write path.
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> AppException.taskNotFound(id));
+        TaskDao before = TaskDao.from(task);
+        task.setStatus(status);
+        Task savedTask = taskRepository.saveAndFlush(task);
+
+        counterService.apply(new TaskCounterChanges().task(before, -1).task(status, before.getDueDate(), 1));
+        eventPublisher.publishEvent(TaskEvent.statusChanged(List.of(id), status));
+        return savedTask;
+    }
+
+    private Task enqueueStatus(Long id, TaskStatus status) {
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+                .orElseThrow(() -> AppException.taskNotFound(id));
+        long sequence = statusLog.append(id, status);
 
+        // The row is written by the next flush; keep this instance out of the current flush.
+        entityManager.unwrap(Session.class).setReadOnly(task, true);
         task.setStatus(status);
+        task.setPendingSequence(sequence);
+        return task;
+    }
+
+    @Scheduled(fixedDelayString = "${app.status.write-behind.flush-interval-ms:1000}")
+    public void flushPendingStatuses() {
+        if (!statusLog.isEnabled()) {
+            return;
+        }
+
+        Map<TaskStatus, Map<Long, StatusWriteBehindLog.Pending>> byStatus = new EnumMap<>(TaskStatus.class);
+        statusLog.snapshot().forEach((id, change) ->
+                byStatus.computeIfAbsent(change.getStatus(), status -> new LinkedHashMap<>()).put(id, change));
+
+        byStatus.forEach((status, changes) -> {
+            List<Long> ids = new ArrayList<>(changes.keySet());
+            for (int from = 0; from < ids.size(); from += statusLog.getBatchSize()) {
+                Map<Long, StatusWriteBehindLog.Pending> candidates = new HashMap<>();
+                ids.subList(from, Math.min(from + statusLog.getBatchSize(), ids.size()))
+                        .forEach(id -> candidates.put(id, changes.get(id)));
+
+                // Direct writes to a claimed task wait in discard until this transaction has finished,
+                // so a stale snapshot never overwrites a newer committed status.
+                Map<Long, StatusWriteBehindLog.Pending> claimed = statusLog.claim(candidates);
+                if (claimed.isEmpty()) {
+                    continue;
+                }
+                List<Long> chunk = List.copyOf(claimed.keySet());
+                try {
+                    // Entity updates are JDBC-batched and refresh only these tasks in the second-level
+                    // cache; a bulk UPDATE here would evict the whole Task region on every flush.
+                    transactionTemplate.executeWithoutResult(tx -> {
+                        TaskCounterChanges counterChanges = new TaskCounterChanges();
+                        List<Task> tasks = taskRepository.findAllById(chunk);
+                        for (Task task : tasks) {
+                            counterChanges.task(TaskDao.from(task), -1).task(status, task.getDueDate(), 1);
+                            task.setStatus(status);
+                        }
+                        taskRepository.flush();
+                        counterService.apply(counterChanges);
+                        eventPublisher.publishEvent(TaskEvent.statusChanged(
+                                tasks.stream().map(Task::getId).toList(), status));
+                    });
+                } catch (RuntimeException e) {
+                    statusLog.release(claimed);
+                    throw e;
+                }
+                statusLog.acknowledge(claimed);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingStatuses();
+    }
+
+    @Transactional
+    public BulkStatusResult updateTaskStatuses(BulkStatusRequest request) {
+        if (!request.hasIds() && !request.hasFilter()) {
+            throw AppException.invalidRequest("Either task IDs or a filter must be provided");
+        }
+
+        List<Long> ids = request.hasIds()
+                ? taskRepository.findIdsForTransition(request.getIds(), request.getStatus(),
+                        request.getFromStatus(), request.getDueAfter(), request.getDueBefore())
+                : taskRepository.findIdsForTransition(request.getStatus(),
+                        request.getFromStatus(), request.getDueAfter(), request.getDueBefore());
+
+        statusLog.discard(ids);
+        int count = 0;
+        for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+            List<TaskBucketCount> before = taskRepository.countBuckets(chunk);
+            count += taskRepository.updateStatusByIdIn(chunk, request.getStatus());
+            counterService.apply(statusChanges(before, request.getStatus()));
+        }
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(TaskEvent.statusChanged(ids, request.getStatus()));
+        }
+
+        return new BulkStatusResult(count, ids);
+    }
 
-        return taskRepository.save(task);
+    private TaskCounterChanges statusChanges(List<TaskBucketCount> before, TaskStatus status) {
+        TaskCounterChanges changes = new TaskCounterChanges().buckets(before, -1);
+        before.forEach(bucket -> changes.task(status, bucket.getDueDate(), bucket.getCount()));
+        return changes;
     }
 }
@@ -1,57 +1,105 @@
 package com.example.task_management.service;
 
+import com.example.task_management.event.UserEvent;
 import com.example.task_management.exception.AppException;
+import com.example.task_management.index.HotIndex;
 import com.example.task_management.model.TaskDao;
 import com.example.task_management.model.User;
+import com.example.task_management.model.UserDto;
+import com.example.task_management.repository.TaskRepository;
 import com.example.task_management.repository.UserRepository;
+import com.example.task_management.repository.UserSpecifications;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "user.service", description = "Service method invocations", histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskCounterService counterService;
+    private final HotIndex hotIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Pattern emailPattern = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TaskRepository taskRepository,
+                       TaskCounterService counterService, HotIndex hotIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.counterService = counterService;
+        this.hotIndex = hotIndex;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<User> findAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public Slice<UserDto> findUserSummaries(Pageable pageable) {
+        return userRepository.findSummaries(pageable);
+    }
+
+    public UserDto findUserSummary(Long userId) {
+        Optional<UserDto> user = hotIndex.isReady()
+                ? hotIndex.findUser(userId)
+                : userRepository.findSummaryById(userId);
+        return user.orElseThrow(() -> AppException.userNotFound(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> findUsersAfter(String firstName, String lastName, String email, Long afterId, int limit) {
+        return userRepository.findBy(
+                UserSpecifications.matching(firstName, lastName, email).and(UserSpecifications.idGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
     public User addUser(User user) {
         validateEmail(user.getEmail());
-        checkIfEmailExists(user.getEmail());
-        return userRepository.save(user);
+        return saveWithUniqueEmail(user);
     }
 
+    @Transactional(readOnly = true)
     public User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> AppException.userNotFound(userId));
     }
 
-    public User updateUser(Long userId, User updatedUser) {
+    @Transactional
+    public User updateUser(Long userId, User updatedUser, Long expectedVersion) {
         User user = findUserById(userId);
-
-        if (!user.getEmail().equalsIgnoreCase(updatedUser.getEmail())) {
-            checkIfEmailExists(updatedUser.getEmail());
-        }
+        checkVersion(user, expectedVersion);
 
         validateEmail(updatedUser.getEmail());
         user.setFirstName(updatedUser.getFirstName());
         user.setLastName(updatedUser.getLastName());
         user.setEmail(updatedUser.getEmail());
 
-        return userRepository.save(user);
+        return saveWithUniqueEmail(user);
+    }
+
+    private void checkVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw AppException.versionMismatch("User", user.getId());
+        }
     }
 
     private void validateEmail(String email) {
@@ -60,24 +108,45 @@ public class UserService {
         }
     }
 
-    private void checkIfEmailExists(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw AppException.emailAlreadyExists(email);
+    private User saveWithUniqueEmail(User user) {
+        try {
+            User savedUser = userRepository.saveAndFlush(user);
+            eventPublisher.publishEvent(UserEvent.saved(
+                    new UserDto(savedUser.getId(), savedUser.getFirstName(), savedUser.getLastName())));
+            return savedUser;
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraintViolation(e)) {
+                throw AppException.emailAlreadyExists(user.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    // H2 reports the unique index behind the constraint, e.g. PUBLIC.UK_APP_USER_EMAIL_NORMALIZED_INDEX_3,
+    // so the schema prefix and index suffix are tolerated.
+    private boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation) || violation.getConstraintName() == null) {
+            return false;
         }
+        String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+        return name.substring(name.lastIndexOf('.') + 1).startsWith(User.EMAIL_CONSTRAINT);
     }
 
     @Transactional
     public void deleteUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> AppException.userNotFound(userId));
-
-        user.getTasks().forEach(task -> task.getAssignedUsers().remove(user));
+        userRepository.deleteAssignmentsByUserId(userId);
 
-        userRepository.deleteById(userId);
+        if (userRepository.deleteUserById(userId) == 0) {
+            throw AppException.userNotFound(userId);
+        }
+        counterService.userDeleted(userId);
+        eventPublisher.publishEvent(UserEvent.deleted(userId));
     }
 
-    public User patchUser(Long userId, User partialUpdate) {
+    @Transactional
+    public User patchUser(Long userId, User partialUpdate, Long expectedVersion) {
         User user = findUserById(userId);
+        checkVersion(user, expectedVersion);
 
         if (StringUtils.hasText(partialUpdate.getFirstName())) {
             user.setFirstName(partialUpdate.getFirstName());
@@ -88,36 +157,22 @@ public class UserService {
         }
 
         if (StringUtils.hasText(partialUpdate.getEmail())) {
-            if (!user.getEmail().equalsIgnoreCase(partialUpdate.getEmail())) {
-                checkIfEmailExists(partialUpdate.getEmail());
-            }
             validateEmail(partialUpdate.getEmail());
             user.setEmail(partialUpdate.getEmail());
         }
 
-        return userRepository.save(user);
+        return saveWithUniqueEmail(user);
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDao> findTasksByUser(Long userId, String lastName, String email) {
-        List<User> users = userRepository.findAll().stream()
-                .filter(user -> (userId == null || user.getId().equals(userId)))
-                .filter(user -> (lastName == null || user.getLastName().equalsIgnoreCase(lastName)))
-                .filter(user -> (email == null || user.getEmail().equalsIgnoreCase(email)))
-                .toList();
+        List<TaskDao> tasks = taskRepository.findSummariesByAssignee(userId, lastName, email);
 
-        if (users.isEmpty()) {
+        if (tasks.isEmpty() && !userRepository.existsMatching(userId, lastName, email)) {
             throw new AppException("User not found", "USER_NOT_FOUND", HttpStatus.NOT_FOUND);
         }
 
-        return users.stream()
-                .flatMap(user -> user.getTasks().stream())
-                .map(task -> new TaskDao(
-                        task.getId(),
-                        task.getTitle(),
-                        task.getDescription(),
-                        task.getDueDate(),
-                        task.getStatus()))
-                .collect(Collectors.toList());
+        return tasks;
     }
 
 }
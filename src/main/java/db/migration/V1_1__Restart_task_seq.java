@@ -0,0 +1,40 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Databases created before tasks moved from IDENTITY to task_seq still have a sequence starting at 1,
+// below ids that are already taken. RESTART WITH only takes a literal, hence a Java migration.
+public class V1_1__Restart_task_seq extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V1_1__Restart_task_seq.class);
+
+    // allocationSize of task_seq: Hibernate's pooled optimizer hands out (value - 49 .. value)
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId = queryLong(statement, "SELECT COALESCE(MAX(id), 0) FROM task");
+            long nextValue = queryLong(statement,
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TASK_SEQ'");
+            long required = maxId + ALLOCATION_SIZE;
+            if (nextValue < required) {
+                statement.execute("ALTER SEQUENCE task_seq RESTART WITH " + required);
+                log.info("Restarted task_seq at {} above existing task id {}", required, maxId);
+            }
+        }
+    }
+
+    private long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            return result.next() ? result.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Users written before the normalized column existed have email_normalized = NULL, which the unique
+// constraint never rejects and the email lookups never match. Backfill it with User.normalizeEmail's rule.
+public class V1_2__Backfill_email_normalized extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V1_2__Backfill_email_normalized.class);
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            // Within a group of case-insensitive duplicates only the oldest user gets the address,
+            // so the update never trips the unique constraint.
+            int backfilled = statement.executeUpdate(
+                    "UPDATE app_user u SET email_normalized = LOWER(u.email) " +
+                    "WHERE u.email_normalized IS NULL AND u.email IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM app_user o WHERE o.id <> u.id " +
+                    "AND (o.email_normalized = LOWER(u.email) OR (LOWER(o.email) = LOWER(u.email) AND o.id < u.id)))");
+            log.info("Backfilled email_normalized for {} users", backfilled);
+
+            try (ResultSet duplicates = statement.executeQuery(
+                    "SELECT id, email FROM app_user WHERE email_normalized IS NULL AND email IS NOT NULL ORDER BY id")) {
+                while (duplicates.next()) {
+                    log.warn("User {} shares email {} with an older user and was left without email_normalized; "
+                            + "merge or change it manually", duplicates.getLong(1), duplicates.getString(2));
+                }
+            }
+        }
+    }
+}
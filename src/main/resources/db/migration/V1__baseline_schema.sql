@@ -0,0 +1,56 @@
+-- Baseline of the schema previously maintained by ddl-auto=update.
+-- Every statement is IF NOT EXISTS so databases created by Hibernate pick it up unchanged.
+
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+-- V1_1 moves it above any ids already in task.
+
+CREATE TABLE IF NOT EXISTS task (
+    id BIGINT NOT NULL PRIMARY KEY,
+    version BIGINT,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status VARCHAR(255),
+    due_date DATE
+);
+CREATE INDEX IF NOT EXISTS idx_task_status ON task (status);
+CREATE INDEX IF NOT EXISTS idx_task_due_date ON task (due_date);
+CREATE INDEX IF NOT EXISTS idx_task_title ON task (title);
+
+CREATE TABLE IF NOT EXISTS app_user (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version BIGINT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    email_normalized VARCHAR(255),
+    CONSTRAINT uk_app_user_email_normalized UNIQUE (email_normalized)
+);
+CREATE INDEX IF NOT EXISTS idx_app_user_last_name ON app_user (last_name);
+
+CREATE TABLE IF NOT EXISTS task_user (
+    task_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, user_id),
+    CONSTRAINT fk_task_user_task FOREIGN KEY (task_id) REFERENCES task (id),
+    CONSTRAINT fk_task_user_user FOREIGN KEY (user_id) REFERENCES app_user (id)
+);
+CREATE INDEX IF NOT EXISTS idx_task_user_user_task ON task_user (user_id, task_id);
+
+CREATE TABLE IF NOT EXISTS task_counter (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    kind VARCHAR(255) NOT NULL,
+    bucket VARCHAR(255) NOT NULL,
+    task_count BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_task_counter_kind_bucket ON task_counter (kind, bucket);
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    id VARCHAR(64) NOT NULL PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status INTEGER NOT NULL,
+    content_type VARCHAR(255),
+    etag VARCHAR(255),
+    body BLOB,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_idempotency_record_expires_at ON idempotency_record (expires_at);
@@ -0,0 +1,12 @@
+ALTER TABLE task ADD COLUMN IF NOT EXISTS parent_id BIGINT;
+ALTER TABLE task ADD CONSTRAINT IF NOT EXISTS fk_task_parent FOREIGN KEY (parent_id) REFERENCES task (id);
+CREATE INDEX IF NOT EXISTS idx_task_parent_id ON task (parent_id);
+
+CREATE TABLE IF NOT EXISTS task_dependency (
+    task_id BIGINT NOT NULL,
+    blocked_by_id BIGINT NOT NULL,
+    PRIMARY KEY (task_id, blocked_by_id),
+    CONSTRAINT fk_task_dependency_task FOREIGN KEY (task_id) REFERENCES task (id),
+    CONSTRAINT fk_task_dependency_blocked_by FOREIGN KEY (blocked_by_id) REFERENCES task (id)
+);
+CREATE INDEX IF NOT EXISTS idx_task_dependency_blocked_by ON task_dependency (blocked_by_id, task_id);
@@ -0,0 +1,9 @@
+-- Lower-cased copies for indexed case-insensitive lookups; LOWER(col) cannot use a plain index.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS title_normalized VARCHAR(255);
+UPDATE task SET title_normalized = LOWER(title) WHERE title_normalized IS NULL AND title IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_task_title_normalized ON task (title_normalized);
+
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS last_name_normalized VARCHAR(255);
+UPDATE app_user SET last_name_normalized = LOWER(last_name) WHERE last_name_normalized IS NULL AND last_name IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_app_user_last_name_normalized ON app_user (last_name_normalized);
+DROP INDEX IF EXISTS idx_app_user_last_name;
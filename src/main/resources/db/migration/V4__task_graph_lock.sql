@@ -0,0 +1,6 @@
+-- Single row that graph mutations lock with SELECT ... FOR UPDATE, so cycle checks are serialized
+-- across every application instance sharing the database.
+CREATE TABLE IF NOT EXISTS task_graph_lock (
+    id INT PRIMARY KEY
+);
+MERGE INTO task_graph_lock KEY (id) VALUES (1);
@@ -0,0 +1,123 @@
+package com.example.task_management;
+
+import com.example.task_management.model.IdempotencyRecord;
+import com.example.task_management.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency-filter;DB_CLOSE_DELAY=-1",
+        "app.search.index-dir=",
+        "app.feed.log-file="
+})
+@AutoConfigureMockMvc
+class IdempotencyFilterTests {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Test
+    void retryWithTheSameKeyReplaysTheFirstResponse() throws Exception {
+        String body = json(Map.of("firstName", "Ada", "lastName", "Byron", "email", "replay@example.com"));
+
+        MvcResult first = createUser("replay-key", body)
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        MvcResult second = createUser("replay-key", body)
+                .andExpect(status().is(first.getResponse().getStatus()))
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(usersWithEmail("replay@example.com")).isEqualTo(1);
+    }
+
+    @Test
+    void reusingAKeyWithADifferentBodyIsRejected() throws Exception {
+        createUser("conflict-key", json(Map.of("firstName", "Ada", "lastName", "Byron", "email", "conflict@example.com")))
+                .andExpect(status().is2xxSuccessful());
+
+        createUser("conflict-key", json(Map.of("firstName", "Ada", "lastName", "Byron", "email", "other@example.com")))
+                .andExpect(status().isUnprocessableEntity());
+        assertThat(usersWithEmail("other@example.com")).isZero();
+    }
+
+    // Claims the key the way a request still running in another thread does
+    @Test
+    void keyStillInProgressIsRejected() throws Exception {
+        String id = sha256("POST /api/users in-progress-key");
+        assertThat(idempotencyService.tryStart(id)).isTrue();
+        try {
+            createUser("in-progress-key", json(Map.of("firstName", "Ada", "lastName", "Byron", "email", "busy@example.com")))
+                    .andExpect(status().isConflict());
+        } finally {
+            idempotencyService.finish(id);
+        }
+        assertThat(usersWithEmail("busy@example.com")).isZero();
+    }
+
+    @Test
+    void cachedRecordPastItsExpiryIsNotReplayed() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(sha256("POST /api/users expired-key"));
+        record.setRequestHash("hash");
+        record.setStatus(201);
+        idempotencyService.save(record);
+        assertThat(idempotencyService.find(record.getId())).isPresent();
+
+        record.setExpiresAt(Instant.now().minusSeconds(1));
+        assertThat(idempotencyService.find(record.getId())).isEmpty();
+    }
+
+    private ResultActions createUser(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/users")
+                .header(IDEMPOTENCY_KEY, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private int usersWithEmail(String email) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM app_user WHERE email_normalized = ?", Integer.class, email);
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static String sha256(String value) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.task_management;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.model.User;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1",
+        "app.search.index-dir=",
+        "app.feed.log-file=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class QueryCountTests {
+
+    private static final int TASK_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private Long firstTaskId;
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // One transaction keeps the saved users managed; persisting tasks that reference
+        // detached users would fail with "detached entity passed to persist".
+        firstTaskId = new TransactionTemplate(transactionManager).execute(status -> seedTasks());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Long seedTasks() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setEmail("user" + i + "@example.com");
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setStatus(TaskStatus.OPEN);
+            task.setDueDate(LocalDate.now().plusDays(i));
+            task.setAssignedUsers(new HashSet<>(users));
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks).get(0).getId();
+    }
+
+    @Test
+    void taskListLoadsAssigneesInOneBatch() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("size", "20"))
+                .andExpect(status().isOk());
+
+        // page query, count query and a single batched assignee query
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void taskSummariesNeverTouchAssignees() throws Exception {
+        mockMvc.perform(get("/api/tasks/summaries").param("size", "20"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void taskByIdFetchesAssigneesWithJoin() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", firstTaskId))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void userSummariesNeverTouchTasks() throws Exception {
+        mockMvc.perform(get("/api/users/summaries"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.task_management;
+
+import com.example.task_management.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The primary and the replica are two separate in-memory H2 databases. Each one has a node_role
+// row that names it, so every test can see which database actually served a transaction.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.replicas[0].jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+        "app.datasource.replicas[0].username=sa",
+        "app.search.index-dir=",
+        "app.feed.log-file="
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void markPrimary() {
+        inTransaction(false, () -> {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node_role (id INT PRIMARY KEY, name VARCHAR(16))");
+            jdbcTemplate.execute("MERGE INTO node_role KEY (id) VALUES (1, 'primary')");
+            return null;
+        });
+        routingDataSource.checkHealth();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(nodeRole(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionsUseThePrimary() {
+        assertThat(nodeRole(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedThreadsReadFromThePrimary() {
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            assertThat(nodeRole(true)).isEqualTo("primary");
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    @Test
+    void unhealthyReplicaFailsOverToThePrimary() {
+        routingDataSource.getReplicaNames().forEach(name -> routingDataSource.markUnhealthy(name, null));
+
+        assertThat(nodeRole(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void writesPinTheClientToThePrimary() throws Exception {
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Ada\",\"lastName\":\"Lovelace\",\"email\":\"ada@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("primary-pin"));
+    }
+
+    private String nodeRole(boolean readOnly) {
+        return inTransaction(readOnly,
+                () -> jdbcTemplate.queryForObject("SELECT name FROM node_role", String.class));
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
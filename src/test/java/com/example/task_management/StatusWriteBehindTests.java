@@ -0,0 +1,162 @@
+package com.example.task_management;
+
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.StatusWriteBehindLog;
+import com.example.task_management.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The scheduled flush is pushed out of the way so every test decides when pending changes reach the table.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:status-write-behind;DB_CLOSE_DELAY=-1",
+        "app.search.index-dir=",
+        "app.feed.log-file=",
+        "app.status.write-behind.enabled=true",
+        "app.status.write-behind.flush-interval-ms=3600000"
+})
+class StatusWriteBehindTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private StatusWriteBehindLog statusLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void logFile(DynamicPropertyRegistry registry) {
+        registry.add("app.status.write-behind.log-file", () -> {
+            try {
+                return Files.createTempDirectory("status-write-behind").resolve("status.log").toString();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void findTaskByIdOverlaysThePendingStatus() {
+        Long id = newTask();
+        taskService.updateTaskStatus(id, TaskStatus.IN_PROGRESS);
+
+        Task pending = taskService.findTaskById(id);
+        assertThat(pending.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(pending.getPendingSequence()).isNotNull();
+        assertThat(storedStatus(id)).isEqualTo(TaskStatus.OPEN.name());
+
+        taskService.flushPendingStatuses();
+
+        Task flushed = taskService.findTaskById(id);
+        assertThat(flushed.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(flushed.getPendingSequence()).isNull();
+        assertThat(storedStatus(id)).isEqualTo(TaskStatus.IN_PROGRESS.name());
+    }
+
+    // Holds a claim the way a running flush does, so the PUT is guaranteed to overlap it.
+    @Test
+    void directPutDuringAFlushIsNeverOverwrittenByIt() throws Exception {
+        Long id = newTask();
+        taskService.updateTaskStatus(id, TaskStatus.IN_PROGRESS);
+        Map<Long, StatusWriteBehindLog.Pending> claimed = statusLog.claim(Map.of(id, statusLog.pending(id).orElseThrow()));
+        assertThat(claimed).containsKey(id);
+
+        CompletableFuture<Task> put = CompletableFuture.supplyAsync(
+                () -> taskService.updateTask(id, completed(), null, null));
+        Thread.sleep(300);
+        assertThat(put).isNotDone();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                taskRepository.findById(id).orElseThrow().setStatus(TaskStatus.IN_PROGRESS));
+        statusLog.acknowledge(claimed);
+
+        // The PUT read the row before the flush committed, so it must fail instead of being reverted later
+        assertThatThrownBy(() -> put.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(storedStatus(id)).isEqualTo(TaskStatus.IN_PROGRESS.name());
+
+        taskService.updateTask(id, completed(), null, null);
+        taskService.flushPendingStatuses();
+        assertThat(storedStatus(id)).isEqualTo(TaskStatus.COMPLETED.name());
+        assertThat(statusLog.pending(id)).isEmpty();
+    }
+
+    @Test
+    void recoverySkipsATornLastLine(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("status.log");
+        Files.writeString(file, "1 5 IN_PROGRESS\n2 6 COMPLETED\n3 5 -\n4 7 CANC", StandardCharsets.UTF_8);
+
+        StatusWriteBehindLog recovered = new StatusWriteBehindLog(true, file.toString(), true, 500);
+        try {
+            assertThat(recovered.pending(5L)).isEmpty();
+            assertThat(recovered.pending(7L)).isEmpty();
+            assertThat(recovered.pendingStatus(6L)).contains(TaskStatus.COMPLETED);
+            assertThat(recovered.pending(6L).orElseThrow().getSequence()).isEqualTo(2);
+            assertThat(recovered.append(8L, TaskStatus.OPEN)).isEqualTo(4);
+        } finally {
+            recovered.close();
+        }
+
+        // Recovery checkpoints, so the torn line is gone and the new append survives a second restart
+        assertThat(Files.readString(file)).doesNotContain("CANC");
+        StatusWriteBehindLog reopened = new StatusWriteBehindLog(true, file.toString(), true, 500);
+        try {
+            assertThat(reopened.snapshot()).containsOnlyKeys(6L, 8L);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private Long newTask() {
+        Task task = new Task();
+        task.setTitle("write-behind");
+        task.setDescription("write-behind");
+        task.setStatus(TaskStatus.OPEN);
+        task.setDueDate(LocalDate.now().plusDays(1));
+        return taskService.addTask(task).getId();
+    }
+
+    private Task completed() {
+        Task task = new Task();
+        task.setTitle("done");
+        task.setDescription("done");
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setDueDate(LocalDate.now().plusDays(1));
+        return task;
+    }
+
+    private String storedStatus(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM task WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.task_management;
+
+import com.example.task_management.exception.AppException;
+import com.example.task_management.model.Task;
+import com.example.task_management.model.TaskNode;
+import com.example.task_management.model.TaskStatus;
+import com.example.task_management.service.TaskGraphService;
+import com.example.task_management.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-graph;DB_CLOSE_DELAY=-1",
+        "app.search.index-dir=",
+        "app.feed.log-file="
+})
+class TaskGraphTests {
+
+    @Autowired
+    private TaskGraphService graphService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void subtreeAndAncestorsFollowParentLinks() {
+        Long root = newTask("root");
+        Long child = newTask("child");
+        Long grandchild = newTask("grandchild");
+        graphService.setParent(child, root);
+        graphService.setParent(grandchild, child);
+
+        assertThat(graphService.findSubtree(root)).extracting(TaskNode::getId).containsExactly(child, grandchild);
+        assertThat(graphService.findAncestors(grandchild)).extracting(TaskNode::getId).containsExactly(root, child);
+        assertThat(graphService.findSubtree(root).get(1).getParentId()).isEqualTo(child);
+    }
+
+    @Test
+    void parentCyclesAreRejected() {
+        Long root = newTask("root");
+        Long child = newTask("child");
+        graphService.setParent(child, root);
+
+        assertThatThrownBy(() -> graphService.setParent(root, child))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("cycle");
+        assertThatThrownBy(() -> graphService.setParent(root, root))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("cycle");
+    }
+
+    @Test
+    void blockersAreTransitiveAndCyclesAreRejected() {
+        Long a = newTask("a");
+        Long b = newTask("b");
+        Long c = newTask("c");
+        Long d = newTask("d");
+        graphService.addBlockers(a, Set.of(b, c));
+        graphService.addBlockers(b, Set.of(d));
+        graphService.addBlockers(c, Set.of(d));
+
+        assertThat(graphService.findBlockers(a)).extracting(TaskNode::getId).containsExactlyInAnyOrder(b, c, d);
+        assertThatThrownBy(() -> graphService.addBlockers(d, Set.of(a)))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("cycle");
+
+        graphService.removeBlockers(b, Set.of(d));
+        graphService.removeBlockers(c, Set.of(d));
+        graphService.addBlockers(d, Set.of(a));
+        assertThat(graphService.findBlockers(d)).extracting(TaskNode::getId).containsExactlyInAnyOrder(a, b, c);
+    }
+
+    @Test
+    void deletingATaskDetachesChildrenAndDropsDependencies() {
+        Long parent = newTask("parent");
+        Long child = newTask("child");
+        Long blocked = newTask("blocked");
+        graphService.setParent(child, parent);
+        graphService.addBlockers(blocked, Set.of(parent));
+
+        taskService.deleteTask(parent);
+
+        assertThat(graphService.findAncestors(child)).isEmpty();
+        assertThat(graphService.findBlockers(blocked)).isEmpty();
+    }
+
+    private Long newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(title);
+        task.setStatus(TaskStatus.OPEN);
+        task.setDueDate(LocalDate.now().plusDays(1));
+        return taskService.addTask(task).getId();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.task_management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Goes through MockMvc so open-in-view is active, and reads the row back with JDBC so neither
+// the persistence context nor the second-level cache can hide a missing UPDATE.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-update;DB_CLOSE_DELAY=-1",
+        "app.search.index-dir=",
+        "app.feed.log-file="
+})
+@AutoConfigureMockMvc
+class UserUpdateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void putUpdatesTheStoredUser() throws Exception {
+        long id = createUser("put@example.com");
+
+        mockMvc.perform(put("/api/users/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("firstName", "Grace", "lastName", "Hopper", "email", "Grace@Example.com"))))
+                .andExpect(status().isOk());
+
+        Map<String, Object> row = storedUser(id);
+        assertThat(row.get("FIRST_NAME")).isEqualTo("Grace");
+        assertThat(row.get("LAST_NAME")).isEqualTo("Hopper");
+        assertThat(row.get("EMAIL_NORMALIZED")).isEqualTo("grace@example.com");
+    }
+
+    @Test
+    void patchUpdatesTheStoredUser() throws Exception {
+        long id = createUser("patch@example.com");
+
+        mockMvc.perform(patch("/api/users/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("lastName", "Lovelace"))))
+                .andExpect(status().isOk());
+
+        Map<String, Object> row = storedUser(id);
+        assertThat(row.get("FIRST_NAME")).isEqualTo("Ada");
+        assertThat(row.get("LAST_NAME")).isEqualTo("Lovelace");
+    }
+
+    @Test
+    void putWithAnEmailInUseIsAConflict() throws Exception {
+        createUser("taken@example.com");
+        long id = createUser("free@example.com");
+
+        mockMvc.perform(put("/api/users/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("firstName", "Ada", "lastName", "Byron", "email", "Taken@Example.com"))))
+                .andExpect(status().isConflict());
+
+        assertThat(storedUser(id).get("EMAIL_NORMALIZED")).isEqualTo("free@example.com");
+    }
+
+    private long createUser(String email) throws Exception {
+        String body = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("firstName", "Ada", "lastName", "Byron", "email", email))))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode user = objectMapper.readTree(body);
+        return user.get("id").asLong();
+    }
+
+    private Map<String, Object> storedUser(long id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT first_name, last_name, email_normalized FROM app_user WHERE id = ?", id);
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
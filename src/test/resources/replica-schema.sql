@@ -0,0 +1,9 @@
+RUNSCRIPT FROM 'classpath:db/migration/V1__baseline_schema.sql';
+RUNSCRIPT FROM 'classpath:db/migration/V2__task_hierarchy.sql';
+RUNSCRIPT FROM 'classpath:db/migration/V3__normalized_search_columns.sql';
+RUNSCRIPT FROM 'classpath:db/migration/V4__task_graph_lock.sql';
+CREATE TABLE IF NOT EXISTS node_role (
+    id INT PRIMARY KEY,
+    name VARCHAR(16)
+);
+MERGE INTO node_role KEY (id) VALUES (1, 'replica');